@@ -26,6 +26,7 @@ import com.bitwig.extension.controller.api.SettableColorValue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 
@@ -42,6 +43,8 @@ public class CursorClipImpl implements INoteClip
     private final int                numRows;
 
     private final IStepInfo [] [] [] launcherData;
+    private final BitSet []          rowsWithData;
+    private final int [] []          rowStepCounts;
     private final PinnableCursorClip launcherClip;
     private int                      editPage  = 0;
     private double                   stepLength;
@@ -68,6 +71,12 @@ public class CursorClipImpl implements INoteClip
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
 
+        // The rows which contain at least one step (not OFF) and the number of such steps per row
+        this.rowsWithData = new BitSet [16];
+        for (int channel = 0; channel < 16; channel++)
+            this.rowsWithData[channel] = new BitSet (this.numRows);
+        this.rowStepCounts = new int [16] [this.numRows];
+
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
 
@@ -917,13 +926,10 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
+        synchronized (this.rowsWithData)
         {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
+            return this.rowsWithData[channel].get (row);
         }
-        return false;
     }
 
 
@@ -961,10 +967,10 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        synchronized (this.rowsWithData)
+        {
+            return this.rowsWithData[channel].nextSetBit (0);
+        }
     }
 
 
@@ -972,10 +978,10 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        synchronized (this.rowsWithData)
+        {
+            return this.rowsWithData[channel].previousSetBit (this.numRows - 1);
+        }
     }
 
 
@@ -1165,7 +1171,35 @@ public class CursorClipImpl implements INoteClip
                 return;
         }
 
-        this.getUpdateableStep (channel, step, note).updateData (noteStep);
+        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, note);
+        final boolean hadData = stepInfo.getState () != StepState.OFF;
+        stepInfo.updateData (noteStep);
+        final boolean hasData = stepInfo.getState () != StepState.OFF;
+        if (hadData != hasData)
+            this.updateRowData (channel, step, note, hasData);
+    }
+
+
+    /**
+     * Update the number of steps of a row which contain data.
+     *
+     * @param channel The MIDI channel
+     * @param step The step which changed
+     * @param row The row
+     * @param isAdded True if a step of the row got data, false if a step was cleared
+     */
+    private void updateRowData (final int channel, final int step, final int row, final boolean isAdded)
+    {
+        // Steps outside of the monitored area are not stored
+        if (channel < 0 || channel >= 16 || step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return;
+
+        synchronized (this.rowsWithData)
+        {
+            final int count = this.rowStepCounts[channel][row] + (isAdded ? 1 : -1);
+            this.rowStepCounts[channel][row] = count;
+            this.rowsWithData[channel].set (row, count > 0);
+        }
     }
 
 
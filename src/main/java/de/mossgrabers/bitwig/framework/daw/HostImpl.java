@@ -181,7 +181,7 @@ public class HostImpl implements IHost
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        return new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
     }
 
 
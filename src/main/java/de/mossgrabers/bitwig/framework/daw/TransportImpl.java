@@ -16,6 +16,7 @@ import de.mossgrabers.framework.daw.constants.LaunchQuantization;
 import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.BeatTimeFormatter;
@@ -860,6 +861,94 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addPlayObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isPlaying ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addRecordObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isArrangerRecordEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addLoopObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isArrangerLoopEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMetronomeObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isMetronomeEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPrerollMetronomeObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isMetronomeAudibleDuringPreRoll ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPunchInObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isPunchInEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPunchOutObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isPunchOutEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addArrangerOverdubObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isArrangerOverdubEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addLauncherOverdubObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isClipLauncherOverdubEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addArrangerAutomationWriteObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isArrangerAutomationWriteEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addClipLauncherAutomationWriteObserver (final IValueObserver<Boolean> observer)
+    {
+        this.transport.isClipLauncherAutomationWriteEnabled ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
     /**
      * Get the Bitwig transport object.
      *
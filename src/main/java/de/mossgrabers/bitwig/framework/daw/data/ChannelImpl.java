@@ -511,6 +511,30 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addActivatedObserver (final IValueObserver<Boolean> observer)
+    {
+        this.deviceChain.isActivated ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMuteObserver (final IValueObserver<Boolean> observer)
+    {
+        this.deviceChain.mute ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSoloObserver (final IValueObserver<Boolean> observer)
+    {
+        this.deviceChain.solo ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addDevice (final IDeviceMetadata metadata)
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.data.AbstractParameterImpl;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.DoubleValue;
 import com.bitwig.extension.controller.api.SettableRangedValue;
@@ -119,6 +120,14 @@ public class RangedValueImpl extends AbstractParameterImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<Integer> observer)
+    {
+        this.rangedValue.addValueObserver (value -> observer.update (Integer.valueOf (this.getValue ())));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setValue (final IValueChanger valueChanger, final int value)
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.INoteObserver;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.BooleanValue;
 import com.bitwig.extension.controller.api.CursorTrack;
@@ -286,6 +287,30 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addRecArmObserver (final IValueObserver<Boolean> observer)
+    {
+        this.track.arm ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMonitorObserver (final IValueObserver<Boolean> observer)
+    {
+        this.track.isMonitoring ().addValueObserver (value -> observer.update (Boolean.valueOf (value)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addAutoMonitorObserver (final IValueObserver<Boolean> observer)
+    {
+        this.track.monitorMode ().addValueObserver (value -> observer.update (Boolean.valueOf (MONITOR_MODE_AUTO.equalsIgnoreCase (value))));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean canHoldNotes ()
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.controller.hardware.AbstractHwButton;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwLight;
+import de.mossgrabers.framework.controller.hardware.LongPressTimer;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 
 import com.bitwig.extension.controller.api.ControllerHost;
@@ -31,10 +32,11 @@ public class HwButtonImpl extends AbstractHwButton
      * @param host The controller host
      * @param hardwareButton The Bitwig hardware button
      * @param label The label of the button
+     * @param longPressTimer The timer for detecting long presses
      */
-    public HwButtonImpl (final HostImpl host, final HardwareButton hardwareButton, final String label)
+    public HwButtonImpl (final HostImpl host, final HardwareButton hardwareButton, final String label, final LongPressTimer longPressTimer)
     {
-        super (host, label);
+        super (host, label, longPressTimer);
 
         this.hardwareButton = hardwareButton;
         this.hardwareButton.setLabel (label);
@@ -19,6 +19,7 @@ import de.mossgrabers.framework.controller.hardware.IHwPianoKeyboard;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
+import de.mossgrabers.framework.controller.hardware.LongPressTimer;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.OperatingSystem;
@@ -44,12 +45,16 @@ import java.util.function.Supplier;
  */
 public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 {
-    private final HostImpl        host;
-    private final HardwareSurface hardwareSurface;
+    private final HostImpl                            host;
+    private final HardwareSurface                     hardwareSurface;
+    private final LongPressTimer                      longPressTimer;
 
-    private int                   lightCounter = 0;
-    private final long            startup      = System.currentTimeMillis ();
-    private boolean               startupDone  = false;
+    /** Raw color light states shared by all lights, keyed by the encoded RGB value. */
+    private final LightStateCache<RawColorLightState> rawColorStates = new LightStateCache<> (256);
+
+    private int                                       lightCounter   = 0;
+    private final long                                startup        = System.currentTimeMillis ();
+    private boolean                                   startupDone    = false;
 
 
     /**
@@ -64,6 +69,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         this.host = host;
         this.hardwareSurface = host.getControllerHost ().createHardwareSurface ();
         this.hardwareSurface.setPhysicalSize (width, height);
+        this.longPressTimer = new LongPressTimer (host);
     }
 
 
@@ -73,7 +79,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     {
         final String id = createID (surfaceID, buttonID.name ());
         final HardwareButton hwButton = this.hardwareSurface.createHardwareButton (id);
-        return new HwButtonImpl (this.host, hwButton, label);
+        return new HwButtonImpl (this.host, hwButton, label, this.longPressTimer);
     }
 
 
@@ -85,7 +91,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> this.getRawColorState (supplier.get ());
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -104,7 +110,18 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        // The states depend on the light specific color function, therefore they cannot be shared
+        final LightStateCache<EncodedColorLightState> encodedStates = new LightStateCache<> (16);
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> {
+            final int encodedColorState = supplier.getAsInt ();
+            EncodedColorLightState state = encodedStates.get (encodedColorState);
+            if (state == null)
+            {
+                state = new EncodedColorLightState (encodedColorState, stateToColorFunction);
+                encodedStates.put (encodedColorState, state);
+            }
+            return state;
+        };
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
@@ -207,6 +224,25 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
     }
 
 
+    /**
+     * Get the shared light state for a raw color.
+     *
+     * @param color The color
+     * @return The light state
+     */
+    private RawColorLightState getRawColorState (final ColorEx color)
+    {
+        final int encodedColor = color.encode ();
+        RawColorLightState state = this.rawColorStates.get (encodedColor);
+        if (state == null)
+        {
+            state = new RawColorLightState (color);
+            this.rawColorStates.put (encodedColor, state);
+        }
+        return state;
+    }
+
+
     private static String createID (final int surfaceID, final String name)
     {
         return surfaceID + 1 + "_" + name;
@@ -0,0 +1,73 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+
+/**
+ * A bounded, direct mapped cache for immutable light states. Since the same instance is returned
+ * for the same key, comparing the old and new state of a light is short-circuited by the identity
+ * check in equals and polling the light states does not create new objects.
+ *
+ * @param <S> The type of the light state
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class LightStateCache<S extends InternalHardwareLightState>
+{
+    private final int []    keys;
+    private final Object [] states;
+    private final int       mask;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of cache entries, must be a power of 2
+     */
+    public LightStateCache (final int size)
+    {
+        this.keys = new int [size];
+        this.states = new Object [size];
+        this.mask = size - 1;
+    }
+
+
+    /**
+     * Get the cached light state for a key.
+     *
+     * @param key The key, e.g. an encoded color
+     * @return The light state or null if not cached
+     */
+    @SuppressWarnings("unchecked")
+    public S get (final int key)
+    {
+        final int index = hash (key) & this.mask;
+        return this.keys[index] == key ? (S) this.states[index] : null;
+    }
+
+
+    /**
+     * Store a light state. Replaces the state with a different key which is stored in the same
+     * slot.
+     *
+     * @param key The key, e.g. an encoded color
+     * @param state The light state
+     */
+    public void put (final int key, final S state)
+    {
+        final int index = hash (key) & this.mask;
+        this.keys[index] = key;
+        this.states[index] = state;
+    }
+
+
+    private static int hash (final int key)
+    {
+        final int h = key * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
@@ -19,7 +19,10 @@ import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExBinaryCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.SysexDispatcher;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwareControl;
 import com.bitwig.extension.controller.api.AbsoluteHardwareValueMatcher;
@@ -41,8 +44,11 @@ import com.bitwig.extension.controller.api.RelativeHardwareValueMatcher;
  */
 public class MidiInputImpl implements IMidiInput
 {
-    private final MidiIn  port;
-    private NoteInputImpl defaultNoteInput;
+    private final MidiIn          port;
+    private final SysexDispatcher sysexDispatcher = new SysexDispatcher ();
+    private MidiSysExCallback     sysexCallback;
+    private boolean               isSysexRegistered;
+    private NoteInputImpl         defaultNoteInput;
 
 
     /**
@@ -86,7 +92,41 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.sysexCallback = callback;
+        this.registerSysexCallback ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSysexHandler (final byte [] header, final MidiSysExBinaryCallback callback)
+    {
+        this.sysexDispatcher.addHandler (header, callback);
+        this.registerSysexCallback ();
+    }
+
+
+    private void registerSysexCallback ()
+    {
+        if (this.isSysexRegistered)
+            return;
+        this.isSysexRegistered = true;
+        this.port.setSysexCallback (this::handleSysex);
+    }
+
+
+    /**
+     * Handle received system exclusive data. The data is only converted to bytes once, if there
+     * are handlers for binary data.
+     *
+     * @param data The system exclusive data formatted in hex
+     */
+    private void handleSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+        if (this.sysexDispatcher.hasHandlers ())
+            this.sysexDispatcher.dispatch (StringUtils.fromHexStrToBytes (data));
     }
 
 
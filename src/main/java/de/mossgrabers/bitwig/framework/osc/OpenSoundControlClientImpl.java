@@ -4,33 +4,60 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Messages are queued and sent from a
+ * separate thread, which packs them into bundles that stay below a maximum byte size. This
+ * ensures that even a full dump of all values never blocks the controller thread.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private final OscConnection connection;
+    private static final int                              MAX_QUEUED_MESSAGES = 100000;
+    /** '#bundle' string and time tag. */
+    private static final int                              BUNDLE_HEADER_SIZE  = 16;
+    /** The size prefix of each bundle element. */
+    private static final int                              ELEMENT_HEADER_SIZE = 4;
+
+    private final IHost                                   host;
+    private final OscConnection                           connection;
+    private final BlockingQueue<IOpenSoundControlMessage> queue               = new LinkedBlockingQueue<> (MAX_QUEUED_MESSAGES);
+    private final AtomicLong                              droppedMessages     = new AtomicLong ();
+    private final Thread                                  senderThread;
+
+    private volatile int                                  maxBundleSize       = DEFAULT_MAX_BUNDLE_SIZE;
+    private volatile int                                  bundlePause         = DEFAULT_BUNDLE_PAUSE;
+    private volatile boolean                              isRunning           = true;
 
 
     /**
      * Constructor.
      *
+     * @param host The host for logging
      * @param connection The OSC connection
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection)
     {
+        this.host = host;
         this.connection = connection;
+
+        this.senderThread = new Thread (this::sendQueuedMessages, "OSC Sender");
+        this.senderThread.setDaemon (true);
+        this.senderThread.start ();
     }
 
 
@@ -38,9 +65,10 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        synchronized (this.connection)
+        {
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
+        }
     }
 
 
@@ -48,33 +76,148 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
+            if (!this.queue.offer (message))
+                this.droppedMessages.incrementAndGet ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setBundleOptions (final int maxBundleSize, final int bundlePause)
+    {
+        this.maxBundleSize = maxBundleSize;
+        this.bundlePause = bundlePause;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQueuedMessages ()
+    {
+        return this.queue.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getDroppedMessages ()
+    {
+        return this.droppedMessages.get ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        this.isRunning = false;
+        this.senderThread.interrupt ();
+        this.queue.clear ();
+    }
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
+
+    /**
+     * The loop of the sender thread. Waits for queued messages and sends them packed into bundles.
+     */
+    private void sendQueuedMessages ()
+    {
+        IOpenSoundControlMessage pending = null;
+        int pendingSize = 0;
+
+        while (this.isRunning)
+        {
+            try
+            {
+                if (pending == null)
                 {
-                    Thread.sleep (10);
+                    pending = this.queue.take ();
+                    pendingSize = ELEMENT_HEADER_SIZE + calcMessageSize (pending);
                 }
-                catch (final InterruptedException ex)
+
+                // Always send at least one message even if it is larger than the maximum
+                final int maxSize = this.maxBundleSize;
+                int bundleSize = BUNDLE_HEADER_SIZE + pendingSize;
+                synchronized (this.connection)
                 {
-                    Thread.currentThread ().interrupt ();
+                    this.connection.startBundle ();
+                    this.connection.sendMessage (pending.getAddress (), pending.getValues ());
+                    pending = null;
+
+                    IOpenSoundControlMessage message;
+                    while ((message = this.queue.poll ()) != null)
+                    {
+                        final int size = ELEMENT_HEADER_SIZE + calcMessageSize (message);
+                        if (bundleSize + size > maxSize)
+                        {
+                            pending = message;
+                            pendingSize = size;
+                            break;
+                        }
+                        this.connection.sendMessage (message.getAddress (), message.getValues ());
+                        bundleSize += size;
+                    }
+
+                    this.connection.endBundle ();
                 }
 
-                this.connection.startBundle ();
+                // Slow down a bit otherwise clients like Open Stage Control cannot keep up...
+                final int pause = this.bundlePause;
+                if (pause > 0 && (pending != null || !this.queue.isEmpty ()))
+                    Thread.sleep (pause);
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread ().interrupt ();
+                return;
             }
+            catch (final IOException | RuntimeException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+        }
+    }
+
+
+    /**
+     * Calculates the size of an encoded OSC message. The Bitwig API does not give access to the
+     * encoded bytes, therefore the size is calculated from the OSC 1.0 encoding rules.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    private static int calcMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // Address and type tags (',' + one per argument)
+        int size = calcPaddedStringSize (message.getAddress ()) + align (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof final String text)
+                size += calcPaddedStringSize (text);
+            else if (value instanceof final byte [] blob)
+                size += 4 + align (blob.length);
+            else if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof Integer || value instanceof Float || value instanceof Character)
+                size += 4;
+            else if (value != null && !(value instanceof Boolean))
+                size += calcPaddedStringSize (value.toString ());
         }
-        this.connection.endBundle ();
+        return size;
+    }
+
+
+    private static int calcPaddedStringSize (final String text)
+    {
+        return align (text.getBytes (StandardCharsets.UTF_8).length + 1);
+    }
+
+
+    private static int align (final int size)
+    {
+        return size + 3 & ~3;
     }
 }
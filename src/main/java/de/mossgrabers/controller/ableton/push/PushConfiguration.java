@@ -10,6 +10,7 @@ import de.mossgrabers.framework.configuration.IColorSetting;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -126,6 +127,9 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private static final String     CATEGORY_RIBBON                 = "Ribbon";
     private static final String     CATEGORY_COLORS                 = "Display Colors";
 
+    /** The number of Push 2 devices for which the color palette checksum is stored. */
+    private static final int        MAX_COLOR_PALETTE_CHECKSUMS     = 8;
+
     private static final String []  RIBBON_MODE_VALUES              =
     {
         "Pitch",
@@ -261,6 +265,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private ColorEx         colorMute                   = DEFAULT_COLOR_MUTE;
     private ColorEx         colorBackgroundDarker       = DEFAULT_COLOR_BACKGROUND_DARKER;
     private ColorEx         colorBackgroundLighter      = DEFAULT_COLOR_BACKGROUND_LIGHTER;
+    private String          colorPaletteChecksums       = "";
 
     private final boolean   isPush2;
 
@@ -288,6 +293,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     private IColorSetting   colorMuteSetting;
     private IEnumSetting    sessionViewSetting;
     private IEnumSetting    displayScenesClipsSetting;
+    private IStringSetting  colorPaletteChecksumsSetting;
 
 
     /**
@@ -1145,6 +1151,56 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        // Not editable, only stores the state of the color palettes of the connected devices
+        this.colorPaletteChecksumsSetting = settingsUI.getStringSetting ("Color Palette Checksums", CATEGORY_HARDWARE_SETUP, -1, "");
+        this.colorPaletteChecksumsSetting.addValueObserver (value -> this.colorPaletteChecksums = value);
+        this.colorPaletteChecksumsSetting.setVisible (false);
+    }
+
+
+    /**
+     * Get the checksum of the color palette which was last confirmed to be stored on a Push 2.
+     *
+     * @param serialNumber The serial number of the Push 2
+     * @return The checksum or null if the color palette of the device was never confirmed
+     */
+    public String getColorPaletteChecksum (final int serialNumber)
+    {
+        final String key = serialNumber + ":";
+        for (final String entry: this.colorPaletteChecksums.split (","))
+        {
+            if (entry.startsWith (key))
+                return entry.substring (key.length ());
+        }
+        return null;
+    }
+
+
+    /**
+     * Store the checksum of the color palette which was confirmed to be stored on a Push 2.
+     *
+     * @param serialNumber The serial number of the Push 2
+     * @param checksum The checksum of the color palette
+     */
+    public void setColorPaletteChecksum (final int serialNumber, final String checksum)
+    {
+        if (this.colorPaletteChecksumsSetting == null)
+            return;
+
+        final String key = serialNumber + ":";
+        final StringBuilder sb = new StringBuilder (key).append (checksum);
+        int count = 1;
+        for (final String entry: this.colorPaletteChecksums.split (","))
+        {
+            if (count >= MAX_COLOR_PALETTE_CHECKSUMS)
+                break;
+            if (entry.isEmpty () || entry.startsWith (key))
+                continue;
+            sb.append (',').append (entry);
+            count++;
+        }
+        this.colorPaletteChecksumsSetting.set (sb.toString ());
     }
 
 
@@ -57,9 +57,9 @@ public class PaletteEntry
      * @param data The data to test
      * @return True if valid
      */
-    public static boolean isValid (final int [] data)
+    public static boolean isValid (final byte [] data)
     {
-        return data.length == MESSAGE_LENGTH && data[6] == PALETTE_MESSAGE_IN_ID;
+        return data.length == MESSAGE_LENGTH && data[6] == PALETTE_MESSAGE_IN_ID && data[MESSAGE_LENGTH - 1] == (byte) 0xF7;
     }
 
 
@@ -69,7 +69,7 @@ public class PaletteEntry
      * @param data The SysEx data of a received color palette entry. Must be 17 characters long.
      * @return True if the given color is different than the color already stored in this object
      */
-    public boolean requiresUpdate (final int [] data)
+    public boolean requiresUpdate (final byte [] data)
     {
         this.white = data[14] + (data[15] << 7);
         return this.red != data[8] + (data[9] << 7) || this.green != data[10] + (data[11] << 7) || this.blue != data[12] + (data[13] << 7);
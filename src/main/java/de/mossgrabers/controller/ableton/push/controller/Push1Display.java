@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -48,15 +49,18 @@ public class Push1Display extends AbstractTextDisplay
     /** Push character for the division sign. */
     public static final String     DIVISION      = Character.toString ((char) 24);
 
-    private static final String [] SYSEX_MESSAGE =
+    private static final byte []   SYSEX_HEADER  =
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x15
     };
+    /** The command to write the first row, add the row index for the others. */
+    private static final int       CMD_WRITE_ROW = 0x18;
 
     private final int              maxParameterValue;
+    private final SysexBuilder     sysexBuilder;
 
 
     /**
@@ -73,6 +77,7 @@ public class Push1Display extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
 
         this.maxParameterValue = maxParameterValue;
+        this.sysexBuilder = output.createSysexBuilder ();
     }
 
 
@@ -88,7 +93,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
+        this.writeCell (row, column, null, 0, column % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -100,12 +105,12 @@ public class Push1Display extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
+            this.writeCell (row, cell, value, 9, 9);
+            this.writeCell (row, cell + 1, value.substring (9), 8, 8);
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
+            this.writeCell (row, cell, value, 9, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -124,7 +129,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        this.writeCell (row, cell, value, 8, cell % 2 == 0 ? 9 : 8);
         return this;
     }
 
@@ -153,7 +158,8 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // The length of the data (offset byte + 68 characters) is followed by the offset
+        this.sysexBuilder.start (SYSEX_HEADER).add7Bit (CMD_WRITE_ROW + row).add14BitMSB (69).add7Bit (0x00).addAscii (text).send ();
     }
 
 
@@ -12,9 +12,10 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.List;
+import java.util.zip.CRC32;
 
 
 /**
@@ -434,10 +435,12 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
     private static final int       PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
     private static final int       NUM_VELOCITY_CURVE_ENTRIES    = 128;
+    /** The maximum number of color palette requests which are waiting for a response. */
+    private static final int       PALETTE_REQUEST_WINDOW        = 8;
 
-    private static final int []    SYSEX_HEADER                  =
+    private static final byte []   SYSEX_HEADER                  =
     {
-        0xF0,
+        (byte) 0xF0,
         0x00,
         0x21,
         0x1D,
@@ -445,8 +448,23 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0x01
     };
 
+    private static final byte []   PALETTE_ENTRY_HEADER          =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x21,
+        0x1D,
+        0x01,
+        0x01,
+        0x04
+    };
+
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
+    private final String           colorPaletteChecksum;
     private boolean                colorPaletteHasUpdate         = false;
+    private boolean                isColorPaletteUpdateRequested = false;
+    private int                    nextColorPaletteRequest       = 0;
+    private int                    numColorPaletteResponses      = 0;
 
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
@@ -457,6 +475,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     private int                    serialNumber                  = -1;
     private int                    boardRevision                 = -1;
 
+    private final SysexBuilder     sysexBuilder;
+
 
     /**
      * Constructor.
@@ -471,10 +491,20 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     {
         super (host, configuration, colorManager, output, input, new PadGridImpl (colorManager, output), 200, 156);
 
+        this.sysexBuilder = output.createSysexBuilder ();
+
+        final CRC32 checksum = new CRC32 ();
         for (int i = 0; i < this.colorPalette.length; i++)
-            this.colorPalette[i] = new PaletteEntry (PushColorManager.getPaletteColorRGB (i));
+        {
+            final int [] color = PushColorManager.getPaletteColorRGB (i);
+            this.colorPalette[i] = new PaletteEntry (color);
+            for (final int component: color)
+                checksum.update (component);
+        }
+        this.colorPaletteChecksum = Long.toHexString (checksum.getValue ());
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexHandler (DeviceInquiry.RESPONSE_HEADER, this::handleDeviceInquiryResponse);
+        this.input.addSysexHandler (PALETTE_ENTRY_HEADER, this::handleColorPaletteMessage);
     }
 
 
@@ -801,53 +831,24 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPush2SysEx (final int [] parameters)
     {
-        this.output.sendSysex ("F0 00 21 1D 01 01 " + StringUtils.toHexStr (parameters) + "F7");
-    }
-
-
-    /**
-     * Handle incoming system exclusive data.
-     *
-     * @param data The data
-     */
-    private void handleSysEx (final String data)
-    {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
-        if (deviceInquiry.isValid ())
+        synchronized (this.sysexBuilder)
         {
-            this.handleDeviceInquiryResponse (deviceInquiry);
-            return;
+            this.sysexBuilder.start (SYSEX_HEADER).add7Bit (parameters).send ();
         }
-
-        // Color palette entry message?
-        if (this.configuration.isPush2 () && isPush2Data (byteData) && PaletteEntry.isValid (byteData))
-            this.handleColorPaletteMessage (byteData);
-    }
-
-
-    private static boolean isPush2Data (final int [] data)
-    {
-        if (data.length + 1 < SYSEX_HEADER.length)
-            return false;
-
-        for (int i = 0; i < SYSEX_HEADER.length; i++)
-        {
-            if (SYSEX_HEADER[i] != data[i])
-                return false;
-        }
-
-        return data[data.length - 1] == 0xF7;
     }
 
 
     /**
      * Handle the response of a device inquiry.
      *
-     * @param deviceInquiry The parsed response
+     * @param data The system exclusive message
      */
-    private void handleDeviceInquiryResponse (final DeviceInquiry deviceInquiry)
+    private void handleDeviceInquiryResponse (final byte [] data)
     {
+        final DeviceInquiry deviceInquiry = new DeviceInquiry (data);
+        if (!deviceInquiry.isValid ())
+            return;
+
         final int [] revisionLevel = deviceInquiry.getUnspecifiedData ();
 
         if (this.configuration.isPush2 ())
@@ -860,6 +861,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.buildNumber = revisionLevel[2] + (revisionLevel[3] << 7);
             this.serialNumber = revisionLevel[4] + (revisionLevel[5] << 7) + (revisionLevel[6] << 14) + (revisionLevel[7] << 21) + (revisionLevel[8] << 28);
             this.boardRevision = revisionLevel[9];
+
+            this.startColorPaletteUpdate ();
         }
         else
         {
@@ -953,12 +956,62 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
 
     /**
-     * Request the full color palette.
+     * Request the full color palette. The update is skipped if the palette was already confirmed
+     * for the serial number of the device, therefore it starts when the response to the device
+     * inquiry was received. If there is no response, the update starts after a second.
      */
     public void updateColorPalette ()
     {
-        // Retrieve the first, all others are requested after the previous one was received
-        this.sendColorPaletteRequest (0);
+        synchronized (this.colorPalette)
+        {
+            this.isColorPaletteUpdateRequested = true;
+        }
+
+        if (this.serialNumber >= 0)
+            this.startColorPaletteUpdate ();
+        else
+            this.scheduleTask (this::startColorPaletteUpdate, 1000);
+    }
+
+
+    /**
+     * Start the requested color palette update, unless the checksum of the palette which was last
+     * confirmed for the device matches.
+     */
+    private void startColorPaletteUpdate ()
+    {
+        synchronized (this.colorPalette)
+        {
+            if (!this.isColorPaletteUpdateRequested)
+                return;
+            this.isColorPaletteUpdateRequested = false;
+
+            if (this.serialNumber >= 0 && this.colorPaletteChecksum.equals (this.configuration.getColorPaletteChecksum (this.serialNumber)))
+            {
+                this.host.println ("Color palette is up to date.");
+                return;
+            }
+
+            this.requestColorPalette ();
+        }
+    }
+
+
+    /**
+     * Request all entries of the color palette. Only a limited number of requests are sent at
+     * once, the next one is sent when a response was received.
+     */
+    private void requestColorPalette ()
+    {
+        synchronized (this.colorPalette)
+        {
+            this.colorPaletteHasUpdate = false;
+            this.nextColorPaletteRequest = 0;
+            this.numColorPaletteResponses = 0;
+
+            while (this.nextColorPaletteRequest < PALETTE_REQUEST_WINDOW)
+                this.sendColorPaletteRequest (this.nextColorPaletteRequest++);
+        }
     }
 
 
@@ -967,12 +1020,19 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      *
      * @param data The message data
      */
-    private void handleColorPaletteMessage (final int [] data)
+    private void handleColorPaletteMessage (final byte [] data)
     {
+        if (!this.configuration.isPush2 () || !PaletteEntry.isValid (data))
+            return;
+
         synchronized (this.colorPalette)
         {
             final int index = data[7];
 
+            // Ignore the responses to resent requests
+            if (!this.colorPalette[index].requiresRead ())
+                return;
+
             // Is an update necessary?
             if (this.colorPalette[index].requiresUpdate (data))
             {
@@ -982,6 +1042,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                 {
                     // Cancel the whole process
                     this.host.error ("Failed writing color palette entry #" + index + ". Gave up after " + PaletteEntry.MAX_NUMBER_OF_RETRIES + " retries. Check selected MIDI in-/outputs.");
+                    this.nextColorPaletteRequest = this.colorPalette.length;
                     return;
                 }
 
@@ -997,21 +1058,29 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                     this.host.println ("Success writing color palette entry #" + index + " after " + retries + " attempts.");
             }
 
-            if (index < 127)
+            this.numColorPaletteResponses++;
+            if (this.nextColorPaletteRequest < this.colorPalette.length)
             {
-                this.sendColorPaletteRequest (index + 1);
+                this.sendColorPaletteRequest (this.nextColorPaletteRequest++);
                 return;
             }
+            if (this.numColorPaletteResponses < this.colorPalette.length)
+                return;
         }
 
         // Re-apply the color palette, if necessary
         if (this.colorPaletteHasUpdate)
         {
-            this.host.scheduleTask ( () -> this.output.sendSysex ("F0 00 21 1D 01 01 05 F7"), 1000);
+            this.host.scheduleTask ( () -> this.sendPush2SysEx (new int []
+            {
+                0x05
+            }), 1000);
 
             // Request all values again to confirm it was written
-            this.sendColorPaletteRequest (0);
+            this.requestColorPalette ();
         }
+        else if (this.serialNumber >= 0)
+            this.configuration.setColorPaletteChecksum (this.serialNumber, this.colorPaletteChecksum);
     }
 
 
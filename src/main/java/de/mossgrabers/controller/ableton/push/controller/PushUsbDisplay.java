@@ -7,11 +7,14 @@ package de.mossgrabers.controller.ableton.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +32,10 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /** Re-send an unchanged frame after this time (in ms) to keep the display from turning off. */
+    private static final int               KEEP_ALIVE       = 1000;
+
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -53,8 +60,19 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+
+    // Double buffered image blocks: the back block is encoded on the controller thread while the
+    // front block is transferred by the send executor
+    private final IMemoryBlock []          imageBlocks      = new IMemoryBlock [2];
+    private final ByteBuffer []            imageBuffers     = new ByteBuffer [2];
+    private int                            backIndex        = 0;
+    private boolean                        hasPendingFrame  = false;
+    private boolean                        isSendScheduled  = false;
+    private long                           lastSendTime     = 0;
+
+    // The column range [start, end) of each block which does not yet contain the latest rendering
+    private final int []                   staleStart       = new int [2];
+    private final int []                   staleEnd         = new int [2];
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
@@ -84,51 +102,71 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            // The line padding is never written again, therefore clear it once
+            this.imageBuffers[i] = this.imageBlocks[i].createByteBuffer ().order (ByteOrder.LITTLE_ENDIAN);
+            this.imageBuffers[i].put (new byte [DATA_SZ]).clear ();
+        }
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. Only the changed areas of the image are encoded
+     * directly into the USB memory block. The transfer is skipped if the image did not change
+     * (except for a periodic keep alive re-send). If several frames are queued before the send
+     * executor catches up only the newest one is sent.
      *
      * @param image An image of size 960 x 160 pixel
+     * @param dirtyAreas The areas of the image which changed since the last call
      */
-    public void send (final IBitmap image)
+    public void send (final IBitmap image, final List<IBounds> dirtyAreas)
     {
-        // Copy to the buffer
         synchronized (this.bufferUpdateLock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+            final long now = System.currentTimeMillis ();
+            if (dirtyAreas.isEmpty () && (this.hasPendingFrame || now - this.lastSendTime < KEEP_ALIVE))
+                return;
 
-                for (int y = 0; y < height; y++)
+            for (final IBounds area: dirtyAreas)
+            {
+                final int start = (int) Math.floor (area.left ());
+                final int end = (int) Math.ceil (area.left () + area.width ());
+                for (int i = 0; i < this.imageBlocks.length; i++)
                 {
-                    for (int x = 0; x < width; x++)
+                    if (this.staleStart[i] >= this.staleEnd[i])
                     {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
+                        this.staleStart[i] = start;
+                        this.staleEnd[i] = end;
                     }
-
-                    for (int x = 0; x < padding; x++)
+                    else
                     {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
+                        this.staleStart[i] = Math.min (this.staleStart[i], start);
+                        this.staleEnd[i] = Math.max (this.staleEnd[i], end);
                     }
                 }
+            }
 
-                imageBuffer.rewind ();
-            });
+            // Bring the back block up to date
+            final int index = this.backIndex;
+            if (this.staleStart[index] < this.staleEnd[index])
+            {
+                final ByteBuffer target = this.imageBuffers[index];
+                final int start = this.staleStart[index];
+                final int end = this.staleEnd[index];
+                image.encode ( (imageBuffer, width, height) -> encode (imageBuffer, target, width, height, start, end));
+                this.staleStart[index] = 0;
+                this.staleEnd[index] = 0;
+            }
+
+            this.hasPendingFrame = true;
+
+            // A send task which is already queued will pick up the newest frame
+            if (this.isSendScheduled)
+                return;
+            this.isSendScheduled = true;
         }
 
         synchronized (this.sendLock)
@@ -141,13 +179,18 @@ public class PushUsbDisplay
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        // Swap the buffers, the encoder continues on the block which was sent before
+        final IMemoryBlock imageBlock;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            this.isSendScheduled = false;
+            if (!this.hasPendingFrame)
+                return;
+            this.hasPendingFrame = false;
+
+            imageBlock = this.imageBlocks[this.backIndex];
+            this.backIndex = 1 - this.backIndex;
+            this.lastSendTime = System.currentTimeMillis ();
         }
 
         // Send the data
@@ -157,7 +200,7 @@ public class PushUsbDisplay
                 return;
 
             this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+            this.usbEndpoint.send (imageBlock, TIMEOUT);
         }
     }
 
@@ -198,13 +241,40 @@ public class PushUsbDisplay
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Encode a column range of the BGRA image into the 16 bit BGR565 format of the Push 2 display.
+     * The padding at the end of each line is never touched.
+     *
+     * @param imageBuffer The image data (blue, green, red, alpha, ...)
+     * @param target The buffer of the USB memory block
+     * @param width The width of the image
+     * @param height The height of the image
+     * @param start The first column to encode
+     * @param end The column after the last one to encode
+     */
+    private static void encode (final ByteBuffer imageBuffer, final ByteBuffer target, final int width, final int height, final int start, final int end)
+    {
+        final ByteBuffer source = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN);
+        final int lineSize = DATA_SZ / height;
+        final int from = Math.max (0, start);
+        final int to = Math.min (width, end);
+        for (int y = 0; y < height; y++)
+        {
+            int sourcePosition = (y * width + from) * 4;
+            int targetPosition = y * lineSize + from * 2;
+            for (int x = from; x < to; x++)
+            {
+                target.putShort (targetPosition, (short) sPixelFromBGRA (source.getInt (sourcePosition)));
+                sourcePosition += 4;
+                targetPosition += 2;
+            }
+        }
+    }
+
+
+    private static int sPixelFromBGRA (final int bgra)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        // Blue: bits 11-15, green: bits 5-10, red: bits 0-4
+        return (bgra & 0xF8) << 8 | (bgra & 0xFC00) >> 5 | (bgra & 0xF80000) >> 19;
     }
 }
@@ -10,8 +10,10 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -67,6 +69,7 @@ public class ACVSDisplay extends AbstractTextDisplay
 
     private final ColorEx []               currentColor;
     private final ColorEx []               color;
+    private final BitSet                   dirtyColors;
     private final Map<ScreenItem, Integer> screenItemCache                      = new EnumMap<> (ScreenItem.class);
 
 
@@ -85,6 +88,7 @@ public class ACVSDisplay extends AbstractTextDisplay
 
         this.currentColor = new ColorEx [this.noOfLines];
         this.color = new ColorEx [this.noOfLines];
+        this.dirtyColors = new BitSet (this.noOfLines);
     }
 
 
@@ -113,7 +117,10 @@ public class ACVSDisplay extends AbstractTextDisplay
      */
     public void setColor (final int row, final ColorEx color)
     {
+        if (Objects.equals (this.color[row], color))
+            return;
         this.color[row] = color;
+        this.dirtyColors.set (row);
     }
 
 
@@ -123,8 +130,10 @@ public class ACVSDisplay extends AbstractTextDisplay
     {
         super.flush ();
 
-        for (int row = 0; row < this.noOfLines; row++)
+        for (int row = this.dirtyColors.nextSetBit (0); row >= 0; row = this.dirtyColors.nextSetBit (row + 1))
         {
+            this.dirtyColors.clear (row);
+
             // Has anything changed?
             if (this.currentColor[row] != null && this.currentColor[row].equals (this.color[row]))
                 continue;
@@ -139,10 +148,11 @@ public class ACVSDisplay extends AbstractTextDisplay
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = null;
+        super.forceFlush ();
+
         for (int row = 0; row < this.noOfLines; row++)
             this.currentColor[row] = null;
+        this.dirtyColors.set (0, this.noOfLines);
         for (final ScreenItem item: ScreenItem.values ())
             this.screenItemCache.put (item, Integer.valueOf (-1));
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.akai.acvs.controller;
 import de.mossgrabers.controller.akai.acvs.ACVSDevice;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -76,10 +77,10 @@ public class ACVSMidiOutput implements IMidiOutput
      * @param data The system exclusive message from which to get the content
      * @return The ACVS message or null if it is not a ACVS message
      */
-    public Optional<ACVSMessage> getMessageContent (final int [] data)
+    public Optional<ACVSMessage> getMessageContent (final byte [] data)
     {
         final int contentLength = data.length - this.messageHeader.length - 1;
-        if (contentLength <= 0 || data[data.length - 1] != 0xF7)
+        if (contentLength <= 0 || data[data.length - 1] != (byte) 0xF7)
             return Optional.empty ();
 
         ACVSDevice acvsDevice = ACVSDevice.MPC_LIVE_ONE;
@@ -88,17 +89,18 @@ public class ACVSMidiOutput implements IMidiOutput
         {
             if (i == 3)
             {
-                acvsDevice = ID_DEVICE_MAP.get (Byte.valueOf ((byte) data[i]));
+                acvsDevice = ID_DEVICE_MAP.get (Byte.valueOf (data[i]));
                 if (acvsDevice == null)
                     return Optional.empty ();
             }
-            else if (this.messageHeader[i] != (byte) data[i])
+            else if (this.messageHeader[i] != data[i])
                 return Optional.empty ();
         }
 
         final int [] result = new int [contentLength - 1];
-        System.arraycopy (data, this.messageHeader.length + 1, result, 0, contentLength - 1);
-        return Optional.of (new ACVSMessage (acvsDevice, data[this.messageHeader.length], result));
+        for (int i = 0; i < result.length; i++)
+            result[i] = data[this.messageHeader.length + 1 + i] & 0xFF;
+        return Optional.of (new ACVSMessage (acvsDevice, data[this.messageHeader.length] & 0xFF, result));
     }
 
 
@@ -297,6 +299,14 @@ public class ACVSMidiOutput implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public SysexBuilder createSysexBuilder ()
+    {
+        return new SysexBuilder (this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void configureMPE (final int zone, final int numberOfChannels)
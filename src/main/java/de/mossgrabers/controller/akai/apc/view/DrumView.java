@@ -8,6 +8,7 @@ import de.mossgrabers.controller.akai.apc.APCConfiguration;
 import de.mossgrabers.controller.akai.apc.controller.APCControlSurface;
 import de.mossgrabers.controller.akai.apc.mode.NoteMode;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -83,9 +84,9 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected ColorHandle getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.surface.isMkII () ? this.colorManager.getColorHandle (DAWColor.getClosestColor (drumPad.getColor ())) : this.colorPadHasContent;
     }
 
 
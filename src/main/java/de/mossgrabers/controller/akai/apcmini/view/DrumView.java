@@ -7,6 +7,7 @@ package de.mossgrabers.controller.akai.apcmini.view;
 import de.mossgrabers.controller.akai.apcmini.APCminiConfiguration;
 import de.mossgrabers.controller.akai.apcmini.controller.APCminiControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -36,9 +37,9 @@ public class DrumView extends AbstractDrumView<APCminiControlSurface, APCminiCon
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected ColorHandle getPadContentColor (final IChannel drumPad)
     {
-        return AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.colorPadHasContent;
     }
 
 
@@ -10,8 +10,11 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
 
 
 /**
@@ -35,13 +38,36 @@ public class FireDisplay extends AbstractGraphicDisplay
       };
     // @formatter:on
 
+    private static final int       WIDTH         = 128;
+    private static final int       TILE_WIDTH    = 7;
+    private static final int       TILE_SIZE     = 8;
     private static final int       STRIPE_SIZE   = 147;
-    private static final int       PACKET_SIZE   = 4 + STRIPE_SIZE;
+    private static final int       HEADER_SIZE   = 11;
+
+    /** The index of the byte in a stripe for each pixel (x + y * 128) of a 128x8 stripe. */
+    private static final int []    PIXEL_INDEX   = new int [WIDTH * 8];
+    /** The bit in the byte of a stripe for each pixel (x + y * 128) of a 128x8 stripe. */
+    private static final int []    PIXEL_MASK    = new int [WIDTH * 8];
+
+    static
+    {
+        // Re-map by tiling 7x8 block of translated pixels
+        for (int y = 0; y < 8; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int remapBit = BIT_MUTATE[y][x % TILE_WIDTH];
+                PIXEL_INDEX[y * WIDTH + x] = x / TILE_WIDTH * TILE_SIZE + remapBit / 7;
+                PIXEL_MASK[y * WIDTH + x] = 1 << remapBit % 7;
+            }
+        }
+    }
 
     private final IMidiOutput      output;
     private final int [] []        oledBitmap    = new int [8] [STRIPE_SIZE];
     private final int [] []        oldOledBitmap = new int [8] [STRIPE_SIZE];
-    private final byte []          data          = new byte [12 + STRIPE_SIZE];
+    /** Re-used sysex messages, indexed by the length of their pay-load. */
+    private final byte [] []       messages      = new byte [STRIPE_SIZE + 1] [];
 
     private long                   lastSend      = System.currentTimeMillis ();
 
@@ -56,27 +82,9 @@ public class FireDisplay extends AbstractGraphicDisplay
      */
     public FireDisplay (final IHost host, final IMidiOutput output, final int maxParameterValue)
     {
-        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (128, 64, maxParameterValue), "Fire Display");
+        super (host, new ChromaticGraphicsConfiguration (), new DefaultGraphicsDimensions (WIDTH, 64, maxParameterValue), "Fire Display");
 
         this.output = output;
-
-        this.data[0] = (byte) 0xF0;
-        this.data[1] = 0x47; // AKAI
-        this.data[2] = 0x7F; // All-Call
-        this.data[3] = 0x43; // Fire
-        this.data[4] = 0x0E; // WRITE OLED
-
-        // Pay-load length high
-        this.data[5] = (byte) (PACKET_SIZE / 128);
-        // Pay-load length low
-        this.data[6] = (byte) (PACKET_SIZE % 128);
-
-        // Start column of update
-        this.data[9] = 0x00;
-        // End column of update
-        this.data[10] = 0x7f;
-
-        this.data[this.data.length - 1] = (byte) 0xF7;
     }
 
 
@@ -93,61 +101,135 @@ public class FireDisplay extends AbstractGraphicDisplay
 
     /** {@inheritDoc} */
     @Override
-    protected void send (final IBitmap image)
+    protected void send (final IBitmap image, final List<IBounds> dirtyAreas)
     {
-        synchronized (this.data)
+        synchronized (this.messages)
         {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
-                for (int stripe = 0; stripe < 8; stripe++)
+            // Send every 3 seconds even if there was no change to keep the display from going
+            // into sleep mode
+            final long now = System.currentTimeMillis ();
+            final boolean isKeepAlive = now - this.lastSend >= 3000;
+            if (dirtyAreas.isEmpty () && !isKeepAlive)
+                return;
+
+            if (!dirtyAreas.isEmpty ())
+            {
+                int start = WIDTH;
+                int end = 0;
+                for (final IBounds area: dirtyAreas)
                 {
-                    for (int y = 0; y < height / 8; y++)
-                    {
-                        for (int x = 0; x < width; x++)
-                        {
-                            final int blue = imageBuffer.get ();
-                            final int green = imageBuffer.get ();
-                            final int red = imageBuffer.get ();
-                            imageBuffer.get (); // Drop unused Alpha
-
-                            final int xpos = x + 128 * (y / 8);
-                            final int ypos = y % 8;
-
-                            // Re-map by tiling 7x8 block of translated pixels
-                            final int remapBit = BIT_MUTATE[ypos][xpos % 7];
-                            final int idx = xpos / 7 * 8 + remapBit / 7;
-                            if (blue + green + red < 0)
-                                this.oledBitmap[stripe][idx] |= 1 << remapBit % 7;
-                            else
-                                this.oledBitmap[stripe][idx] &= ~(1 << remapBit % 7);
-                        }
-                    }
+                    start = Math.min (start, (int) Math.floor (area.left ()));
+                    end = Math.max (end, (int) Math.ceil (area.left () + area.width ()));
                 }
-            });
+                final int from = Math.max (0, start);
+                final int to = Math.min (WIDTH, end);
+                image.encode ( (imageBuffer, width, height) -> this.encode (imageBuffer, width, from, to));
+            }
 
-            // Convert to system exclusive and send to device
+            // Convert to system exclusive and send only the changed tiles of each stripe
             for (int stripe = 0; stripe < 8; stripe++)
             {
-                // Start 8-pixel band of update
-                this.data[7] = (byte) stripe;
-                // End 8-pixel band of update (here, 8 bands of 8 pixels, i.e. the whole display)
-                this.data[8] = (byte) stripe;
-
-                for (int i = 0; i < STRIPE_SIZE; i++)
-                    this.data[11 + i] = (byte) this.oledBitmap[stripe][i];
-
-                // Slow down display updates to not flood the device controller
-                // Send if content has change or every 3 seconds if there was no change to keep
-                // the display from going into sleep mode
-                final long now = System.currentTimeMillis ();
-                if (Arrays.compare (this.oledBitmap[stripe], this.oldOledBitmap[stripe]) == 0 && now - this.lastSend < 3000)
-                    continue;
-                System.arraycopy (this.oledBitmap[stripe], 0, this.oldOledBitmap[stripe], 0, STRIPE_SIZE);
+                final int [] stripeData = this.oledBitmap[stripe];
+                final int [] oldStripeData = this.oldOledBitmap[stripe];
+
+                int first = 0;
+                int last = STRIPE_SIZE - 1;
+                if (!isKeepAlive)
+                {
+                    while (first < STRIPE_SIZE && stripeData[first] == oldStripeData[first])
+                        first++;
+                    if (first == STRIPE_SIZE)
+                        continue;
+                    while (stripeData[last] == oldStripeData[last])
+                        last--;
+                }
+
+                // The device requires complete 7x8 pixel tiles
+                final int startTile = first / TILE_SIZE;
+                final int endTile = last / TILE_SIZE;
+                final int startIndex = startTile * TILE_SIZE;
+                final int endIndex = Math.min (STRIPE_SIZE, (endTile + 1) * TILE_SIZE);
+                System.arraycopy (stripeData, startIndex, oldStripeData, startIndex, endIndex - startIndex);
+
+                final byte [] data = this.getMessage (endIndex - startIndex);
+                // Start and end 8-pixel band of update
+                data[7] = (byte) stripe;
+                data[8] = (byte) stripe;
+                // Start and end column of update
+                data[9] = (byte) (startTile * TILE_WIDTH);
+                data[10] = (byte) Math.min (WIDTH - 1, (endTile + 1) * TILE_WIDTH - 1);
+                for (int i = startIndex; i < endIndex; i++)
+                    data[HEADER_SIZE + i - startIndex] = (byte) stripeData[i];
+
                 this.lastSend = now;
+                this.output.sendSysex (data);
+            }
+        }
+    }
 
-                this.output.sendSysex (this.data);
+
+    /**
+     * Unwind the columns of the 128x64 arrangement into the 1024x8 arrangement of pixels of the
+     * stripes.
+     *
+     * @param imageBuffer The image data (blue, green, red, alpha, ...)
+     * @param width The width of the image
+     * @param from The first column to encode
+     * @param to The column after the last one to encode
+     */
+    private void encode (final ByteBuffer imageBuffer, final int width, final int from, final int to)
+    {
+        final ByteBuffer source = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN);
+        for (int stripe = 0; stripe < 8; stripe++)
+        {
+            final int [] stripeData = this.oledBitmap[stripe];
+            for (int y = 0; y < 8; y++)
+            {
+                int position = ((stripe * 8 + y) * width + from) * 4;
+                final int offset = y * WIDTH;
+                for (int x = from; x < to; x++)
+                {
+                    final int bgra = source.getInt (position);
+                    position += 4;
+
+                    // Sum of the signed blue, green and red bytes
+                    final int index = offset + x;
+                    if ((byte) bgra + (byte) (bgra >> 8) + (byte) (bgra >> 16) < 0)
+                        stripeData[PIXEL_INDEX[index]] |= PIXEL_MASK[index];
+                    else
+                        stripeData[PIXEL_INDEX[index]] &= ~PIXEL_MASK[index];
+                }
             }
         }
     }
+
+
+    /**
+     * Get a re-usable sysex message for writing to the OLED with the header already filled in.
+     *
+     * @param payloadSize The number of bitmap bytes
+     * @return The message
+     */
+    private byte [] getMessage (final int payloadSize)
+    {
+        byte [] data = this.messages[payloadSize];
+        if (data != null)
+            return data;
+
+        data = new byte [HEADER_SIZE + payloadSize + 1];
+        data[0] = (byte) 0xF0;
+        data[1] = 0x47; // AKAI
+        data[2] = 0x7F; // All-Call
+        data[3] = 0x43; // Fire
+        data[4] = 0x0E; // WRITE OLED
+
+        // Pay-load length high and low
+        final int packetSize = 4 + payloadSize;
+        data[5] = (byte) (packetSize / 128);
+        data[6] = (byte) (packetSize % 128);
+
+        data[data.length - 1] = (byte) 0xF7;
+        this.messages[payloadSize] = data;
+        return data;
+    }
 }
\ No newline at end of file
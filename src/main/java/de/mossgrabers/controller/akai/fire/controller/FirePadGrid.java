@@ -5,15 +5,15 @@
 package de.mossgrabers.controller.akai.fire.controller;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -40,8 +40,18 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private static final byte [] SYSEX_HEADER =
+    {
+        (byte) 0xF0,
+        0x47,
+        0x7F,
+        0x43,
+        0x65
+    };
+
+    private final SysexBuilder   sysexBuilder;
+    private double               padBrightness = 1.0;
+    private double               padSaturation = 1.0;
 
 
     /**
@@ -53,6 +63,8 @@ public class FirePadGrid extends BlinkingPadGrid
     public FirePadGrid (final ColorManager colorManager, final IMidiOutput output)
     {
         super (colorManager, output, 4, 16, 36);
+
+        this.sysexBuilder = output.createSysexBuilder ();
     }
 
 
@@ -81,60 +93,52 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        // Hardware does not support blinking, therefore needs to be implemented the hard way
+        for (int note = this.dirtyPads.nextSetBit (0); note >= 0; note = this.dirtyPads.nextSetBit (note + 1))
+            this.blinkingPads.set (note, LightInfo.decodeBlinkColor (this.padStates[note]) > 0);
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            final int index = note - 54;
-            // Note: The exact PADx is not needed for getting the color
-            final int [] c = this.colorManager.getColor (info.getColor (), ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
-
-            // Hardware does not support blinking, therefore needs to be implemented the hard
-            // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
-            else
-                this.blinkingLights.remove (key);
-        }
-
-        int length = this.padInfos.size ();
+        int length = this.dirtyPads.cardinality ();
 
         // Toggle blink colors every 600ms
-        if (this.checkBlinking ())
-        {
-            length += this.blinkingLights.size ();
+        final boolean updateBlinking = this.checkBlinking ();
+        if (updateBlinking)
+            length += this.blinkingPads.cardinality ();
+
+        // No update necessary
+        if (length == 0)
+            return;
 
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        // 4 bytes per pad: index, red, green and blue
+        this.sysexBuilder.start (SYSEX_HEADER).add14BitMSB (length * 4);
+
+        for (int note = this.dirtyPads.nextSetBit (0); note >= 0; note = this.dirtyPads.nextSetBit (note + 1))
+            this.addPadColor (note, LightInfo.decodeColor (this.padStates[note]));
+
+        if (updateBlinking)
+        {
+            for (int note = this.blinkingPads.nextSetBit (0); note >= 0; note = this.blinkingPads.nextSetBit (note + 1))
             {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-                final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                final int state = this.padStates[note];
+                this.addPadColor (note, this.isBlink ? LightInfo.decodeBlinkColor (state) : LightInfo.decodeColor (state));
             }
         }
 
-        // No update necessary
-        if (sb.length () == 0)
-            return;
+        this.sysexBuilder.send ();
+    }
 
-        length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
 
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+    /**
+     * Add the index and RGB color of a pad to the update message.
+     *
+     * @param note The note of the pad in the grid
+     * @param colorIndex The index of the color
+     */
+    private void addPadColor (final int note, final int colorIndex)
+    {
+        final int index = this.getControllerNote (note) - 54;
+        // Note: The exact PADx is not needed for getting the color
+        final ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation);
+        this.sysexBuilder.add7Bit (index).addRGB (color);
     }
 
 
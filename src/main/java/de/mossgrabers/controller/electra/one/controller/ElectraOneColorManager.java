@@ -7,9 +7,7 @@ package de.mossgrabers.controller.electra.one.controller;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
-
-import java.util.HashMap;
-import java.util.Map;
+import de.mossgrabers.framework.controller.color.ColorPalette;
 
 
 /**
@@ -43,7 +41,7 @@ public class ElectraOneColorManager extends ColorManager
         PURPLE
     };
 
-    private static final Map<ColorEx, ColorEx> PALETTE_MAP            = new HashMap<> ();
+    private static final ColorPalette          PALETTE_MATCHER        = new ColorPalette (PALETTE);
 
     // TODO
     // public static final int LAUNCHKEY_COLOR_BLACK = 0;
@@ -250,13 +248,13 @@ public class ElectraOneColorManager extends ColorManager
 
     /**
      * Calculate the color from the palette which is the closest to the given color. Calculated
-     * colors are cached.
+     * colors are cached by the palette.
      *
      * @param color The color
      * @return The color from the palette
      */
     public static ColorEx getClosestPaletteColor (final ColorEx color)
     {
-        return PALETTE_MAP.computeIfAbsent (color, c -> c.isGrayscale () ? ColorEx.WHITE : ColorEx.getClosestColor (c, PALETTE));
+        return color.isGrayscale () ? ColorEx.WHITE : ColorEx.getClosestColor (color, PALETTE_MATCHER);
     }
 }
\ No newline at end of file
@@ -9,19 +9,13 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.StringWriter;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 
 
 /**
@@ -68,21 +62,15 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x45
     };
 
-    private static final byte []  SYSEX_UPDATE_ELEMENT        =
-    {
-        0x14,
-        0x07
-    };
-
     private static final byte []  SYSEX_EXECUTE_LUA           =
     {
         0x08,
         0x0D
     };
 
-    private static final int []   SYSEX_LOGGING               =
+    private static final byte []  SYSEX_LOGGING               =
     {
-        0xF0,
+        (byte) 0xF0,
         0x00,
         0x21,
         0x45,
@@ -90,6 +78,9 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x00
     };
 
+    /** Keep the messages small enough for the receive buffer of the Electra.One. */
+    private static final int      MAX_LUA_LENGTH              = 1000;
+
     private static final String   LOG_PAGE_CHANGE             = "displayPage: page shown: page=";
     private static final Modes [] MODES                       =
     {
@@ -98,7 +89,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     };
 
     private final IMidiInput      ctrlInput;
-    private final IMidiOutput     ctrlOutput;
+    private final SysexBuilder    sysexBuilder;
+    private final StringBuilder   luaBatch                    = new StringBuilder ();
 
 
     /**
@@ -117,9 +109,9 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         super (host, configuration, colorManager, output, input, null, 1000, 1000);
 
         this.ctrlInput = ctrlInput;
-        this.ctrlOutput = ctrlOutput;
+        this.sysexBuilder = ctrlOutput.createSysexBuilder ();
 
-        this.ctrlInput.setSysexCallback (this::handleSysEx);
+        this.ctrlInput.addSysexHandler (SYSEX_LOGGING, this::handleLogMessage);
     }
 
 
@@ -131,6 +123,16 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void flushHardware ()
+    {
+        this.sendLuaBatch ();
+
+        super.flushHardware ();
+    }
+
+
     /**
      * Set the title of a group element.
      *
@@ -143,7 +145,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         if (title.equals (cache[groupID]))
             return;
         cache[groupID] = title;
-        this.sendLua ("setGroupTitle(" + groupID + ",\"" + title + "\")");
+        this.addLua ("setGroupTitle(" + groupID + "," + quoteLua (title) + ")");
     }
 
 
@@ -158,120 +160,96 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     public void updateElement (final int controlID, final String [] cache, final String name, final ColorEx color, final Boolean visibility)
     {
-        final ObjectMapper mapper = new ObjectMapper ();
-
-        final StringWriter writer = new StringWriter ();
-        try (final JsonGenerator generator = mapper.createGenerator (writer))
-        {
-            generator.writeStartObject ();
-            if (name != null)
-                generator.writeStringField ("name", name);
-            if (color != null)
-                generator.writeStringField ("color", StringUtils.formatColor (color));
-            if (visibility != null)
-                generator.writeBooleanField ("visible", visibility.booleanValue ());
-            generator.writeEndObject ();
-        }
-        catch (final IOException ex)
-        {
-            this.host.error (name, ex);
-            return;
-        }
-
-        final String json = writer.toString ();
-
-        if (json.equals (cache[controlID]))
+        final StringBuilder code = new StringBuilder ("do local c=controls.get(").append (controlID).append (')');
+        if (name != null)
+            code.append (" c:setName(").append (quoteLua (name)).append (')');
+        if (color != null)
+            code.append (" c:setColor(0x").append (StringUtils.formatColor (color)).append (')');
+        if (visibility != null)
+            code.append (" c:setVisible(").append (visibility.booleanValue ()).append (')');
+        final String statement = code.append (" end").toString ();
+
+        if (statement.equals (cache[controlID]))
             return;
-        cache[controlID] = json;
-
-        final byte [] command = new byte [4];
-        command[0] = SYSEX_UPDATE_ELEMENT[0];
-        command[1] = SYSEX_UPDATE_ELEMENT[1];
-        command[2] = (byte) (controlID & 0x7F);
-        command[3] = (byte) (controlID >> 7);
-        this.sendText (command, json);
+        cache[controlID] = statement;
+        this.addLua (statement);
     }
 
 
     /**
-     * Send LUA code for execution to the Electra.One.
+     * Add LUA code to the batch which is sent at the end of the flush. If the batch would become
+     * too large, the collected code is sent first.
      *
-     * @param elementCache The message is only send if the code is different from the previous call
-     * @param code The code to send
+     * @param statement The code to add
      */
-    private void sendLua (final String code)
+    private void addLua (final String statement)
     {
-        this.sendText (SYSEX_EXECUTE_LUA, code);
+        if (this.luaBatch.length () > 0 && this.luaBatch.length () + statement.length () + 1 > MAX_LUA_LENGTH)
+            this.sendLuaBatch ();
+        if (this.luaBatch.length () > 0)
+            this.luaBatch.append ('\n');
+        this.luaBatch.append (statement);
     }
 
 
     /**
-     * Send a JSON or LUA string to the CTRL output.
-     *
-     * @param command The command bytes
-     * @param text The JSON to send
+     * Send the collected LUA code for execution to the Electra.One as one message.
      */
-    private void sendText (final byte [] command, final String text)
+    private void sendLuaBatch ()
     {
-        this.sendSysex (command, StringUtils.fixASCII (text).getBytes ());
+        if (this.luaBatch.length () == 0)
+            return;
+
+        final String code = StringUtils.fixASCII (this.luaBatch.toString ());
+        this.luaBatch.setLength (0);
+        this.sysexBuilder.start (SYSEX_HDR).addBytes (SYSEX_EXECUTE_LUA).addAscii (code).send ();
     }
 
 
     /**
-     * Send a byte array to the CTRL output of the Electra.One.
+     * Format a text as a LUA string literal.
      *
-     * @param command The command bytes
-     * @param content The content bytes
+     * @param text The text
+     * @return The quoted and escaped text
      */
-    private void sendSysex (final byte [] command, final byte [] content)
+    private static String quoteLua (final String text)
     {
-        try (final ByteArrayOutputStream out = new ByteArrayOutputStream ())
-        {
-            out.write (SYSEX_HDR);
-            out.write (command);
-            out.write (content);
-            out.write ((byte) 0xF7);
-            this.ctrlOutput.sendSysex (out.toByteArray ());
-        }
-        catch (final IOException ex)
+        final StringBuilder sb = new StringBuilder (text.length () + 2).append ('"');
+        for (int i = 0; i < text.length (); i++)
         {
-            this.host.error ("Could not send JSON command.", ex);
+            final char c = text.charAt (i);
+            if (c == '"' || c == '\\')
+                sb.append ('\\');
+            if (c == '\n')
+                sb.append ("\\n");
+            else
+                sb.append (c);
         }
+        return sb.append ('"').toString ();
     }
 
 
     /**
-     * Handle incoming system exclusive data.
+     * Handle incoming logging messages.
      *
-     * @param data The data
+     * @param data The system exclusive data
      */
-    private void handleSysEx (final String data)
+    private void handleLogMessage (final byte [] data)
     {
-        final int [] byteData = StringUtils.fromHexStr (data);
-        final DeviceInquiry deviceInquiry = new DeviceInquiry (byteData);
-        if (deviceInquiry.isValid ())
-        {
-            // TODO
-            return;
-        }
+        final String message = new String (data, SYSEX_LOGGING.length, data.length - SYSEX_LOGGING.length - 1, StandardCharsets.ISO_8859_1);
+        if (this.configuration.isLogToConsoleEnabled ())
+            this.host.println (message);
 
-        if (Arrays.compareUnsigned (SYSEX_LOGGING, 0, SYSEX_LOGGING.length, byteData, 0, SYSEX_LOGGING.length) == 0)
+        // Bad hack for missing page change event, replace when it becomes available
+        if (message.startsWith (LOG_PAGE_CHANGE))
         {
-            final String message = new String (byteData, SYSEX_LOGGING.length, byteData.length - SYSEX_LOGGING.length - 1);
-            if (this.configuration.isLogToConsoleEnabled ())
-                this.host.println (message);
-
-            // Bad hack for missing page change event, replace when it becomes available
-            if (message.startsWith (LOG_PAGE_CHANGE))
+            final String rest = message.substring (LOG_PAGE_CHANGE.length ());
+            final int pos = rest.indexOf (',');
+            if (pos > 0)
             {
-                final String rest = message.substring (LOG_PAGE_CHANGE.length ());
-                final int pos = rest.indexOf (',');
-                if (pos > 0)
-                {
-                    final int page = Integer.parseInt (rest.substring (0, pos));
-                    if (page < MODES.length)
-                        this.getModeManager ().setActive (MODES[page]);
-                }
+                final int page = Integer.parseInt (rest.substring (0, pos));
+                if (page < MODES.length)
+                    this.getModeManager ().setActive (MODES[page]);
             }
         }
     }
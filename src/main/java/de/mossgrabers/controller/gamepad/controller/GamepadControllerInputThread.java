@@ -13,29 +13,44 @@ import com.studiohartman.jamepad.ControllerIndex;
 import com.studiohartman.jamepad.ControllerManager;
 import com.studiohartman.jamepad.ControllerUnpluggedException;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Thread to monitor the input coming from a Gamepad.
+ * Thread to monitor the input coming from a Gamepad. The polling interval is reduced while the
+ * gamepad is used and increased step by step while it is idle. Axis movements are coalesced, the
+ * callback only receives the latest position of each axis when the host executes the update task.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class GamepadControllerInputThread implements Runnable
 {
-    private static final long                    INTERVAL           = 1;
+    private static final ControllerButton [] BUTTONS            = ControllerButton.values ();
+    private static final ControllerAxis []   AXES               = ControllerAxis.values ();
 
-    private final AtomicBoolean                  running            = new AtomicBoolean (false);
+    private static final long                MIN_INTERVAL       = 1;
+    private static final long                MAX_INTERVAL       = 16;
+    /** The number of polls without any change before the interval is doubled. */
+    private static final int                 IDLE_POLLS         = 50;
 
-    private final IHost                          host;
-    private final ControllerManager              gamepadManager;
-    private final IGamepadCallback               gamepadCallback;
-    private final Map<ControllerButton, Boolean> buttonStates       = new EnumMap<> (ControllerButton.class);
-    private final Map<ControllerAxis, Float>     axisStates         = new EnumMap<> (ControllerAxis.class);
+    private final AtomicBoolean              running            = new AtomicBoolean (false);
 
-    private int                                  selectedController = -1;
+    private final IHost                      host;
+    private final ControllerManager          gamepadManager;
+    private final IGamepadCallback           gamepadCallback;
+    private final boolean []                 buttonStates       = new boolean [BUTTONS.length];
+    private final float []                   axisStates         = new float [AXES.length];
+
+    private final float []                   pendingAxisStates  = new float [AXES.length];
+    private final boolean []                 isAxisPending      = new boolean [AXES.length];
+    private final float []                   sendAxisStates     = new float [AXES.length];
+    private final boolean []                 isAxisSent         = new boolean [AXES.length];
+    private boolean                          isAxisTaskPending  = false;
+
+    private int                              selectedController = -1;
+    private long                             interval           = MIN_INTERVAL;
+    private int                              idlePolls          = 0;
 
 
     /**
@@ -105,7 +120,7 @@ public class GamepadControllerInputThread implements Runnable
                 // Hand over to other running threads
                 try
                 {
-                    Thread.sleep (INTERVAL);
+                    Thread.sleep (this.interval);
                 }
                 catch (final InterruptedException ex)
                 {
@@ -118,11 +133,15 @@ public class GamepadControllerInputThread implements Runnable
                 synchronized (this.gamepadManager)
                 {
                     if (this.selectedController < 0 || this.selectedController >= this.gamepadManager.getNumControllers ())
+                    {
+                        this.interval = MAX_INTERVAL;
                         continue;
+                    }
 
                     final ControllerIndex currController = this.gamepadManager.getControllerIndex (this.selectedController);
                     if (!currController.isConnected ())
                     {
+                        this.interval = MAX_INTERVAL;
                         this.gamepadManager.update ();
                         if (this.selectedController >= 0 && this.selectedController < this.gamepadManager.getNumControllers ())
                             currController.reconnectController ();
@@ -131,27 +150,7 @@ public class GamepadControllerInputThread implements Runnable
 
                     try
                     {
-                        for (final ControllerButton button: ControllerButton.values ())
-                        {
-                            final boolean isPressed = currController.isButtonPressed (button);
-                            final Boolean state = this.buttonStates.getOrDefault (button, Boolean.FALSE);
-                            if (state.booleanValue () == isPressed)
-                                continue;
-
-                            this.buttonStates.put (button, Boolean.valueOf (isPressed));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
-                        }
-
-                        for (final ControllerAxis axis: ControllerAxis.values ())
-                        {
-                            final float position = currController.getAxisState (axis);
-                            final Float state = this.axisStates.getOrDefault (axis, Float.valueOf (0));
-                            if (state.floatValue () == position)
-                                continue;
-
-                            this.axisStates.put (axis, Float.valueOf (position));
-                            this.host.scheduleTask ( () -> this.gamepadCallback.process (axis, position), 0);
-                        }
+                        this.adaptInterval (this.pollButtons (currController) | this.pollAxes (currController));
                     }
                     catch (final ControllerUnpluggedException ex)
                     {
@@ -165,4 +164,108 @@ public class GamepadControllerInputThread implements Runnable
             this.host.error ("Controller error.", ex);
         }
     }
+
+
+    /**
+     * Check all buttons for changes and send the changed ones to the callback.
+     *
+     * @param controller The controller to poll
+     * @return True if at least one button has changed
+     * @throws ControllerUnpluggedException The controller is not connected
+     */
+    private boolean pollButtons (final ControllerIndex controller) throws ControllerUnpluggedException
+    {
+        boolean hasChanged = false;
+        for (int i = 0; i < BUTTONS.length; i++)
+        {
+            final boolean isPressed = controller.isButtonPressed (BUTTONS[i]);
+            if (this.buttonStates[i] == isPressed)
+                continue;
+
+            this.buttonStates[i] = isPressed;
+            hasChanged = true;
+            final ControllerButton button = BUTTONS[i];
+            this.host.scheduleTask ( () -> this.gamepadCallback.process (button, isPressed ? ButtonEvent.DOWN : ButtonEvent.UP), 0);
+        }
+        return hasChanged;
+    }
+
+
+    /**
+     * Check all axes for changes. The changed positions are stored and only one task is scheduled
+     * to send all of them to the callback.
+     *
+     * @param controller The controller to poll
+     * @return True if at least one axis has changed
+     * @throws ControllerUnpluggedException The controller is not connected
+     */
+    private boolean pollAxes (final ControllerIndex controller) throws ControllerUnpluggedException
+    {
+        boolean hasChanged = false;
+        for (int i = 0; i < AXES.length; i++)
+        {
+            final float position = controller.getAxisState (AXES[i]);
+            if (this.axisStates[i] == position)
+                continue;
+
+            this.axisStates[i] = position;
+            hasChanged = true;
+
+            synchronized (this.pendingAxisStates)
+            {
+                this.pendingAxisStates[i] = position;
+                this.isAxisPending[i] = true;
+                if (!this.isAxisTaskPending)
+                {
+                    this.isAxisTaskPending = true;
+                    this.host.scheduleTask (this::sendPendingAxes, 0);
+                }
+            }
+        }
+        return hasChanged;
+    }
+
+
+    /**
+     * Send the latest position of all changed axes to the callback.
+     */
+    private void sendPendingAxes ()
+    {
+        synchronized (this.pendingAxisStates)
+        {
+            System.arraycopy (this.pendingAxisStates, 0, this.sendAxisStates, 0, AXES.length);
+            System.arraycopy (this.isAxisPending, 0, this.isAxisSent, 0, AXES.length);
+            Arrays.fill (this.isAxisPending, false);
+            this.isAxisTaskPending = false;
+        }
+
+        // Call the callback outside of the lock to not block the polling thread
+        for (int i = 0; i < AXES.length; i++)
+        {
+            if (this.isAxisSent[i])
+                this.gamepadCallback.process (AXES[i], this.sendAxisStates[i]);
+        }
+    }
+
+
+    /**
+     * Poll fast while the gamepad is used and slow down step by step while it is idle.
+     *
+     * @param hasChanged True if a button or axis has changed in the last poll
+     */
+    private void adaptInterval (final boolean hasChanged)
+    {
+        if (hasChanged)
+        {
+            this.interval = MIN_INTERVAL;
+            this.idlePolls = 0;
+            return;
+        }
+
+        this.idlePolls++;
+        if (this.idlePolls < IDLE_POLLS)
+            return;
+        this.idlePolls = 0;
+        this.interval = Math.min (this.interval * 2, MAX_INTERVAL);
+    }
 }
@@ -259,6 +259,12 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
+    private static final int                         NUM_LOOKUP_TYPES             = 5;
+    private static final int                         NUM_LOOKUP_NUMBERS           = 128;
+    /** 16 MIDI channels plus omni. */
+    private static final int                         NUM_LOOKUP_CHANNELS          = 17;
+    private static final int                         OMNI_CHANNEL                 = 16;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -277,6 +283,11 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private IStringSetting                           fileSetting;
 
     private final CommandSlot []                     commandSlots                 = new CommandSlot [NUM_SLOTS];
+    /** The index of the first active slot for each type, number and channel key. */
+    private final int []                             slotLookup                   = new int [NUM_LOOKUP_TYPES * NUM_LOOKUP_NUMBERS * NUM_LOOKUP_CHANNELS];
+    /** The lookup key under which each slot is currently registered or -1. */
+    private final int []                             slotLookupKeys               = new int [NUM_SLOTS];
+    private int                                      slotVersion                  = 0;
 
     private IValueObserver<FlexiCommand>             commandObserver;
     private String                                   filename;
@@ -316,6 +327,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         super (host, valueChanger, arpeggiatorModes);
 
         Arrays.fill (this.assignableFunctionActions, "");
+        Arrays.fill (this.slotLookup, -1);
+        Arrays.fill (this.slotLookupKeys, -1);
 
         this.dontNotifyAll.add (BUTTON_SAVE);
         this.dontNotifyAll.add (BUTTON_LOAD);
@@ -425,6 +438,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         this.typeSetting.addValueObserver (value -> {
             final int type = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, value) - 1;
             this.getSelectedSlot ().setType (type);
+            this.updateSlotLookup (this.selectedSlot);
 
             // High resolution is only true for pitchbend as the default
             final int number = AbstractConfiguration.lookupIndex (NUMBER_NAMES, this.numberSetting.get ());
@@ -438,6 +452,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
             final int numberIndex = AbstractConfiguration.lookupIndex (NUMBER_NAMES, value);
             this.getSelectedSlot ().setNumber (numberIndex);
+            this.updateSlotLookup (this.selectedSlot);
 
             // Switch resolution setting to low for CC >= 32
             final int type = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, this.typeSetting.get ()) - 1;
@@ -448,6 +463,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         });
         this.midiChannelSetting.addValueObserver (value -> {
             this.getSelectedSlot ().setMidiChannel (AbstractConfiguration.lookupIndex (CONTROLLER_CHANNELS, value));
+            this.updateSlotLookup (this.selectedSlot);
             this.clearNoteMap ();
         });
         this.resolutionSetting.addValueObserver (value -> {
@@ -474,8 +490,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (KnobMode.lookupByLabel (value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
-        this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.slotVersion++;
+        });
+        this.sendValueWhenReceivedSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.slotVersion++;
+        });
 
         ///////////////////////////////////////////////
         // Keyboard / Pads
@@ -563,6 +585,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.updateSlotLookup (this.selectedSlot);
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -628,17 +651,16 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-            {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return i;
-            }
-        }
-        return -1;
+        final int key = getLookupKey (type, number, midiChannel);
+        if (key < 0)
+            return -1;
+
+        // A slot for the specific channel or omni, whichever comes first
+        final int index = this.slotLookup[key];
+        final int omniIndex = this.slotLookup[key - midiChannel + OMNI_CHANNEL];
+        if (index < 0)
+            return omniIndex;
+        return omniIndex < 0 ? index : Math.min (index, omniIndex);
     }
 
 
@@ -652,17 +674,79 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        final int index = this.getSlotCommand (type, number, midiChannel);
+        if (index < 0)
+            return Optional.empty ();
+        return Optional.of (new Pair<> (Integer.valueOf (index), this.commandSlots[index]));
+    }
+
+
+    /**
+     * Update the lookup entries of a slot after its type, number, MIDI channel or command has
+     * changed.
+     *
+     * @param slotIndex The index of the slot
+     */
+    private void updateSlotLookup (final int slotIndex)
+    {
+        this.slotVersion++;
+
+        final CommandSlot slot = this.commandSlots[slotIndex];
+        final int newKey = slot.getCommand () == FlexiCommand.OFF ? -1 : getLookupKey (slot.getType (), slot.getNumber (), slot.getMidiChannel ());
+        final int oldKey = this.slotLookupKeys[slotIndex];
+        if (newKey == oldKey)
+            return;
+        this.slotLookupKeys[slotIndex] = newKey;
+
+        // The slot was the first one for the old key, find the next one
+        if (oldKey >= 0 && this.slotLookup[oldKey] == slotIndex)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            this.slotLookup[oldKey] = -1;
+            for (int i = slotIndex + 1; i < NUM_SLOTS; i++)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return Optional.of (new Pair<> (Integer.valueOf (i), slot));
+                if (this.slotLookupKeys[i] == oldKey)
+                {
+                    this.slotLookup[oldKey] = i;
+                    break;
+                }
             }
         }
-        return Optional.empty ();
+
+        if (newKey >= 0)
+        {
+            final int first = this.slotLookup[newKey];
+            if (first < 0 || slotIndex < first)
+                this.slotLookup[newKey] = slotIndex;
+        }
+    }
+
+
+    /**
+     * Rebuild the lookup entries of all slots.
+     */
+    private void rebuildSlotLookup ()
+    {
+        Arrays.fill (this.slotLookup, -1);
+        Arrays.fill (this.slotLookupKeys, -1);
+        for (int i = 0; i < NUM_SLOTS; i++)
+            this.updateSlotLookup (i);
+    }
+
+
+    /**
+     * Calculate the key of the slot lookup. The number is ignored for pitchbend.
+     *
+     * @param type The type
+     * @param number The number
+     * @param midiChannel The MIDI channel, 16 for omni
+     * @return The key or -1 if one of the parameters is out of range
+     */
+    private static int getLookupKey (final int type, final int number, final int midiChannel)
+    {
+        final int num = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        if (type < 0 || type >= NUM_LOOKUP_TYPES || num < 0 || num >= NUM_LOOKUP_NUMBERS || midiChannel < 0 || midiChannel >= NUM_LOOKUP_CHANNELS)
+            return -1;
+        return (type * NUM_LOOKUP_NUMBERS + num) * NUM_LOOKUP_CHANNELS + midiChannel;
     }
 
 
@@ -717,6 +801,18 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get a counter which is incremented whenever the type, number, MIDI channel, command or the
+     * send value options of a slot have changed.
+     *
+     * @return The counter
+     */
+    public int getSlotVersion ()
+    {
+        return this.slotVersion;
+    }
+
+
     /**
      * Get all commands which are used in a slot.
      *
@@ -935,11 +1031,13 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             }
             catch (final IOException | NumberFormatException ex)
             {
+                this.rebuildSlotLookup ();
                 this.host.error ("Could not import from file.", ex);
                 this.host.showNotification ("Could not import from file. Check Script Console for detailed error.");
                 return;
             }
 
+            this.rebuildSlotLookup ();
             this.clearNoteMap ();
 
             this.selectSlot ("1");
@@ -43,8 +43,16 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         new FileFilter ("All files", "*")
     };
 
-    private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
-    private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
+    private final int []                                  valueCache       = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  observedSlots    = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int                                           numObservedSlots;
+    private final int []                                  polledSlots      = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int                                           numPolledSlots;
+    private int                                           feedbackVersion  = -1;
+    private final boolean []                              polledCommands   = new boolean [FlexiCommand.values ().length];
+    private final boolean []                              dirtyCommands    = new boolean [FlexiCommand.values ().length];
+    private boolean                                       hasDirtyCommands = false;
+    private final Map<FlexiCommand, IFlexiCommandHandler> handlers         = new EnumMap<> (FlexiCommand.class);
     private NativeFileDialogs                             dialogs;
 
     private long                                          lastReceived    = 0;
@@ -87,13 +95,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
 
     /**
-     * Register a flexi command handler.
+     * Register a flexi command handler. Also registers the value observers of all supported
+     * commands, therefore must be called during the initialization of the extension.
      *
      * @param handler The handler to register
      */
     public void registerHandler (final IFlexiCommandHandler handler)
     {
-        Arrays.asList (handler.getSupportedCommands ()).forEach (command -> this.handlers.put (command, handler));
+        for (final FlexiCommand command: handler.getSupportedCommands ())
+        {
+            this.handlers.put (command, handler);
+            this.polledCommands[command.ordinal ()] = !handler.addValueObserver (command, this::markDirty);
+        }
     }
 
 
@@ -102,15 +115,79 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     public void flush ()
     {
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        final int version = this.configuration.getSlotVersion ();
+        if (version != this.feedbackVersion)
+        {
+            this.feedbackVersion = version;
+            this.updateFeedbackSlots (slots);
+
+            // Send the values of all (new) slots once
+            Arrays.fill (this.dirtyCommands, true);
+            this.hasDirtyCommands = true;
+        }
+
+        for (int i = 0; i < this.numPolledSlots; i++)
+        {
+            final int index = this.polledSlots[i];
+            this.flushValue (index, slots[index]);
+        }
+
+        if (!this.hasDirtyCommands)
+            return;
+
+        for (int i = 0; i < this.numObservedSlots; i++)
+        {
+            final int index = this.observedSlots[i];
+            if (this.dirtyCommands[slots[index].getCommand ().ordinal ()])
+                this.flushValue (index, slots[index]);
+        }
+
+        // Keep the changes while a value is received, they are skipped by flushValue
+        if (this.isUpdatingValue)
+            return;
+        Arrays.fill (this.dirtyCommands, false);
+        this.hasDirtyCommands = false;
+    }
+
+
+    /**
+     * Collect the slots which have a command assigned and should send its value. They are split
+     * into the slots with an observed command value and the ones which need to be polled. The
+     * cached value of all other slots is reset, so the value is sent again when they get
+     * re-enabled.
+     *
+     * @param slots All slots
+     */
+    private void updateFeedbackSlots (final CommandSlot [] slots)
+    {
+        this.numObservedSlots = 0;
+        this.numPolledSlots = 0;
         for (int i = 0; i < slots.length; i++)
         {
             final FlexiCommand command = slots[i].getCommand ();
-            if (command != FlexiCommand.OFF && slots[i].isSendValue ())
-                this.flushValue (i, slots[i]);
+            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+                this.valueCache[i] = -1;
+            else if (this.polledCommands[command.ordinal ()])
+                this.polledSlots[this.numPolledSlots++] = i;
+            else
+                this.observedSlots[this.numObservedSlots++] = i;
         }
     }
 
 
+    /**
+     * Mark the value of a command as changed. All slots with this command are flushed on the next
+     * flush.
+     *
+     * @param command The command
+     */
+    private void markDirty (final FlexiCommand command)
+    {
+        this.dirtyCommands[command.ordinal ()] = true;
+        this.hasDirtyCommands = true;
+    }
+
+
     private void flushValue (final int index, final CommandSlot slot)
     {
         final FlexiCommand command = slot.getCommand ();
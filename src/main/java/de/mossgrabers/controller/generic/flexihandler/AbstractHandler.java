@@ -5,12 +5,14 @@
 package de.mossgrabers.controller.generic.flexihandler;
 
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.MVHelper;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -56,6 +58,14 @@ public abstract class AbstractHandler implements IFlexiCommandHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        return false;
+    }
+
+
     protected IValueChanger getAbsoluteValueChanger (final MidiValue value)
     {
         return value.isHighRes () ? this.model.getValueChanger () : this.absoluteLowResValueChanger;
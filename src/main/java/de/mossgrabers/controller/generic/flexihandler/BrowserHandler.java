@@ -13,6 +13,7 @@ import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -99,6 +100,15 @@ public class BrowserHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        // None of the commands has a value
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
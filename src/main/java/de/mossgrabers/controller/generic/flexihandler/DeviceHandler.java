@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -129,6 +130,29 @@ public class DeviceHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        switch (command)
+        {
+            case DEVICE_SET_PARAMETER_1, DEVICE_SET_PARAMETER_2, DEVICE_SET_PARAMETER_3, DEVICE_SET_PARAMETER_4, DEVICE_SET_PARAMETER_5, DEVICE_SET_PARAMETER_6, DEVICE_SET_PARAMETER_7, DEVICE_SET_PARAMETER_8:
+                final IParameter parameter = this.model.getCursorDevice ().getParameterBank ().getItem (command.ordinal () - FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal ());
+                parameter.addValueObserver (value -> observer.update (command));
+                return true;
+
+            // The device states and the selected parameter page are polled
+            case DEVICE_TOGGLE_WINDOW, DEVICE_TOGGLE_BYPASS, DEVICE_TOGGLE_PIN, DEVICE_TOGGLE_EXPAND, DEVICE_TOGGLE_PARAMETERS:
+            case DEVICE_SELECT_PARAMETER_PAGE_1, DEVICE_SELECT_PARAMETER_PAGE_2, DEVICE_SELECT_PARAMETER_PAGE_3, DEVICE_SELECT_PARAMETER_PAGE_4, DEVICE_SELECT_PARAMETER_PAGE_5, DEVICE_SELECT_PARAMETER_PAGE_6, DEVICE_SELECT_PARAMETER_PAGE_7, DEVICE_SELECT_PARAMETER_PAGE_8:
+                return false;
+
+            default:
+                // No value
+                return true;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.daw.data.EqualizerBandType;
 import de.mossgrabers.framework.daw.data.IEqualizerDevice;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -141,6 +142,39 @@ public class EqHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final IEqualizerDevice equalizer = (IEqualizerDevice) this.model.getSpecificDevice (DeviceID.EQ);
+        final IValueObserver<Integer> valueObserver = value -> observer.update (command);
+
+        switch (command)
+        {
+            case EQ_SET_TYPE_1, EQ_SET_TYPE_2, EQ_SET_TYPE_3, EQ_SET_TYPE_4, EQ_SET_TYPE_5, EQ_SET_TYPE_6, EQ_SET_TYPE_7, EQ_SET_TYPE_8:
+                equalizer.getType (command.ordinal () - FlexiCommand.EQ_SET_TYPE_1.ordinal ()).addValueObserver (valueObserver);
+                break;
+
+            case EQ_SET_FREQ_1, EQ_SET_FREQ_2, EQ_SET_FREQ_3, EQ_SET_FREQ_4, EQ_SET_FREQ_5, EQ_SET_FREQ_6, EQ_SET_FREQ_7, EQ_SET_FREQ_8:
+                equalizer.getFrequency (command.ordinal () - FlexiCommand.EQ_SET_FREQ_1.ordinal ()).addValueObserver (valueObserver);
+                break;
+
+            case EQ_SET_GAIN_1, EQ_SET_GAIN_2, EQ_SET_GAIN_3, EQ_SET_GAIN_4, EQ_SET_GAIN_5, EQ_SET_GAIN_6, EQ_SET_GAIN_7, EQ_SET_GAIN_8:
+                equalizer.getGain (command.ordinal () - FlexiCommand.EQ_SET_GAIN_1.ordinal ()).addValueObserver (valueObserver);
+                break;
+
+            case EQ_SET_Q_1, EQ_SET_Q_2, EQ_SET_Q_3, EQ_SET_Q_4, EQ_SET_Q_5, EQ_SET_Q_6, EQ_SET_Q_7, EQ_SET_Q_8:
+                equalizer.getQ (command.ordinal () - FlexiCommand.EQ_SET_Q_1.ordinal ()).addValueObserver (valueObserver);
+                break;
+
+            default:
+                // No value
+                break;
+        }
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
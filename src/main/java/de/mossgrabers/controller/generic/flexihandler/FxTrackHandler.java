@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.Optional;
 
@@ -337,6 +338,91 @@ public class FxTrackHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank == null)
+            return true;
+
+        final IValueObserver<Boolean> stateObserver = value -> observer.update (command);
+        final IValueObserver<Integer> valueObserver = value -> observer.update (command);
+
+        switch (command)
+        {
+            case FX_TRACK_1_SELECT, FX_TRACK_2_SELECT, FX_TRACK_3_SELECT, FX_TRACK_4_SELECT, FX_TRACK_5_SELECT, FX_TRACK_6_SELECT, FX_TRACK_7_SELECT, FX_TRACK_8_SELECT:
+                final int selectIndex = command.ordinal () - FlexiCommand.FX_TRACK_1_SELECT.ordinal ();
+                effectTrackBank.addSelectionObserver ( (index, isSelected) -> {
+                    if (index == selectIndex)
+                        observer.update (command);
+                });
+                break;
+
+            case FX_TRACK_1_TOGGLE_ACTIVE, FX_TRACK_2_TOGGLE_ACTIVE, FX_TRACK_3_TOGGLE_ACTIVE, FX_TRACK_4_TOGGLE_ACTIVE, FX_TRACK_5_TOGGLE_ACTIVE, FX_TRACK_6_TOGGLE_ACTIVE, FX_TRACK_7_TOGGLE_ACTIVE, FX_TRACK_8_TOGGLE_ACTIVE:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ACTIVE.ordinal ()).addActivatedObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_ACTIVE, FX_TRACK_2_SET_ACTIVE, FX_TRACK_3_SET_ACTIVE, FX_TRACK_4_SET_ACTIVE, FX_TRACK_5_SET_ACTIVE, FX_TRACK_6_SET_ACTIVE, FX_TRACK_7_SET_ACTIVE, FX_TRACK_8_SET_ACTIVE:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ACTIVE.ordinal ()).addActivatedObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_VOLUME, FX_TRACK_2_SET_VOLUME, FX_TRACK_3_SET_VOLUME, FX_TRACK_4_SET_VOLUME, FX_TRACK_5_SET_VOLUME, FX_TRACK_6_SET_VOLUME, FX_TRACK_7_SET_VOLUME, FX_TRACK_8_SET_VOLUME:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_VOLUME.ordinal ()).getVolumeParameter ().addValueObserver (valueObserver);
+                break;
+
+            case FX_TRACK_1_SET_PANORAMA, FX_TRACK_2_SET_PANORAMA, FX_TRACK_3_SET_PANORAMA, FX_TRACK_4_SET_PANORAMA, FX_TRACK_5_SET_PANORAMA, FX_TRACK_6_SET_PANORAMA, FX_TRACK_7_SET_PANORAMA, FX_TRACK_8_SET_PANORAMA:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_PANORAMA.ordinal ()).getPanParameter ().addValueObserver (valueObserver);
+                break;
+
+            case FX_TRACK_1_TOGGLE_MUTE, FX_TRACK_2_TOGGLE_MUTE, FX_TRACK_3_TOGGLE_MUTE, FX_TRACK_4_TOGGLE_MUTE, FX_TRACK_5_TOGGLE_MUTE, FX_TRACK_6_TOGGLE_MUTE, FX_TRACK_7_TOGGLE_MUTE, FX_TRACK_8_TOGGLE_MUTE:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MUTE.ordinal ()).addMuteObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_MUTE, FX_TRACK_2_SET_MUTE, FX_TRACK_3_SET_MUTE, FX_TRACK_4_SET_MUTE, FX_TRACK_5_SET_MUTE, FX_TRACK_6_SET_MUTE, FX_TRACK_7_SET_MUTE, FX_TRACK_8_SET_MUTE:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MUTE.ordinal ()).addMuteObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_TOGGLE_SOLO, FX_TRACK_2_TOGGLE_SOLO, FX_TRACK_3_TOGGLE_SOLO, FX_TRACK_4_TOGGLE_SOLO, FX_TRACK_5_TOGGLE_SOLO, FX_TRACK_6_TOGGLE_SOLO, FX_TRACK_7_TOGGLE_SOLO, FX_TRACK_8_TOGGLE_SOLO:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_SOLO.ordinal ()).addSoloObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_SOLO, FX_TRACK_2_SET_SOLO, FX_TRACK_3_SET_SOLO, FX_TRACK_4_SET_SOLO, FX_TRACK_5_SET_SOLO, FX_TRACK_6_SET_SOLO, FX_TRACK_7_SET_SOLO, FX_TRACK_8_SET_SOLO:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_SOLO.ordinal ()).addSoloObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_TOGGLE_ARM, FX_TRACK_2_TOGGLE_ARM, FX_TRACK_3_TOGGLE_ARM, FX_TRACK_4_TOGGLE_ARM, FX_TRACK_5_TOGGLE_ARM, FX_TRACK_6_TOGGLE_ARM, FX_TRACK_7_TOGGLE_ARM, FX_TRACK_8_TOGGLE_ARM:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ARM.ordinal ()).addRecArmObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_ARM, FX_TRACK_2_SET_ARM, FX_TRACK_3_SET_ARM, FX_TRACK_4_SET_ARM, FX_TRACK_5_SET_ARM, FX_TRACK_6_SET_ARM, FX_TRACK_7_SET_ARM, FX_TRACK_8_SET_ARM:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ARM.ordinal ()).addRecArmObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_TOGGLE_MONITOR, FX_TRACK_2_TOGGLE_MONITOR, FX_TRACK_3_TOGGLE_MONITOR, FX_TRACK_4_TOGGLE_MONITOR, FX_TRACK_5_TOGGLE_MONITOR, FX_TRACK_6_TOGGLE_MONITOR, FX_TRACK_7_TOGGLE_MONITOR, FX_TRACK_8_TOGGLE_MONITOR:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MONITOR.ordinal ()).addMonitorObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_MONITOR, FX_TRACK_2_SET_MONITOR, FX_TRACK_3_SET_MONITOR, FX_TRACK_4_SET_MONITOR, FX_TRACK_5_SET_MONITOR, FX_TRACK_6_SET_MONITOR, FX_TRACK_7_SET_MONITOR, FX_TRACK_8_SET_MONITOR:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MONITOR.ordinal ()).addMonitorObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_TOGGLE_AUTO_MONITOR, FX_TRACK_2_TOGGLE_AUTO_MONITOR, FX_TRACK_3_TOGGLE_AUTO_MONITOR, FX_TRACK_4_TOGGLE_AUTO_MONITOR, FX_TRACK_5_TOGGLE_AUTO_MONITOR, FX_TRACK_6_TOGGLE_AUTO_MONITOR, FX_TRACK_7_TOGGLE_AUTO_MONITOR, FX_TRACK_8_TOGGLE_AUTO_MONITOR:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).addAutoMonitorObserver (stateObserver);
+                break;
+
+            case FX_TRACK_1_SET_AUTO_MONITOR, FX_TRACK_2_SET_AUTO_MONITOR, FX_TRACK_3_SET_AUTO_MONITOR, FX_TRACK_4_SET_AUTO_MONITOR, FX_TRACK_5_SET_AUTO_MONITOR, FX_TRACK_6_SET_AUTO_MONITOR, FX_TRACK_7_SET_AUTO_MONITOR, FX_TRACK_8_SET_AUTO_MONITOR:
+                effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_AUTO_MONITOR.ordinal ()).addAutoMonitorObserver (stateObserver);
+                break;
+
+            default:
+                // No value
+                break;
+        }
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.generic.flexihandler;
 import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.flexihandler.utils.KnobMode;
 import de.mossgrabers.controller.generic.flexihandler.utils.MidiValue;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -33,6 +34,19 @@ public interface IFlexiCommandHandler
     int getCommandValue (FlexiCommand command);
 
 
+    /**
+     * Register observers for the values which are reflected by the given command. The observer is
+     * notified with the command whenever one of these values changes. Must be called during the
+     * initialization of the extension.
+     *
+     * @param command The command
+     * @param observer The observer to notify on a value change
+     * @return True if all changes of the command value are notified (or the command has no value),
+     *         false if the value needs to be polled
+     */
+    boolean addValueObserver (FlexiCommand command, IValueObserver<FlexiCommand> observer);
+
+
     /**
      * Execute the given command (if supported).
      *
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -92,6 +93,48 @@ public class MasterHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        final IValueObserver<Boolean> stateObserver = value -> observer.update (command);
+        final IValueObserver<Integer> valueObserver = value -> observer.update (command);
+
+        switch (command)
+        {
+            case MASTER_SET_VOLUME:
+                masterTrack.getVolumeParameter ().addValueObserver (valueObserver);
+                break;
+
+            case MASTER_SET_PANORAMA:
+                masterTrack.getPanParameter ().addValueObserver (valueObserver);
+                break;
+
+            case MASTER_TOGGLE_MUTE, MASTER_SET_MUTE:
+                masterTrack.addMuteObserver (stateObserver);
+                break;
+
+            case MASTER_TOGGLE_SOLO, MASTER_SET_SOLO:
+                masterTrack.addSoloObserver (stateObserver);
+                break;
+
+            case MASTER_TOGGLE_ARM, MASTER_SET_ARM:
+                masterTrack.addRecArmObserver (stateObserver);
+                break;
+
+            case MASTER_CROSSFADER:
+                this.model.getTransport ().getCrossfadeParameter ().addValueObserver (valueObserver);
+                break;
+
+            default:
+                // No value
+                break;
+        }
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
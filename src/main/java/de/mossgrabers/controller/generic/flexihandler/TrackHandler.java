@@ -21,9 +21,11 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 /**
@@ -567,6 +569,165 @@ public class TrackHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+        final IValueObserver<Boolean> stateObserver = value -> observer.update (command);
+        final IValueObserver<Integer> valueObserver = value -> observer.update (command);
+
+        switch (command)
+        {
+            case TRACK_1_SELECT, TRACK_2_SELECT, TRACK_3_SELECT, TRACK_4_SELECT, TRACK_5_SELECT, TRACK_6_SELECT, TRACK_7_SELECT, TRACK_8_SELECT:
+                final int selectIndex = command.ordinal () - FlexiCommand.TRACK_1_SELECT.ordinal ();
+                this.addTrackBankObservers (trackBank -> trackBank.addSelectionObserver ( (index, isSelected) -> {
+                    if (index == selectIndex)
+                        observer.update (command);
+                }));
+                break;
+
+            case TRACK_1_TOGGLE_ACTIVE, TRACK_2_TOGGLE_ACTIVE, TRACK_3_TOGGLE_ACTIVE, TRACK_4_TOGGLE_ACTIVE, TRACK_5_TOGGLE_ACTIVE, TRACK_6_TOGGLE_ACTIVE, TRACK_7_TOGGLE_ACTIVE, TRACK_8_TOGGLE_ACTIVE:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ACTIVE.ordinal ()).addActivatedObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_ACTIVE, TRACK_2_SET_ACTIVE, TRACK_3_SET_ACTIVE, TRACK_4_SET_ACTIVE, TRACK_5_SET_ACTIVE, TRACK_6_SET_ACTIVE, TRACK_7_SET_ACTIVE, TRACK_8_SET_ACTIVE:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ACTIVE.ordinal ()).addActivatedObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_ACTIVE, TRACK_SELECTED_SET_ACTIVE:
+                cursorTrack.addActivatedObserver (stateObserver);
+                return true;
+
+            case TRACK_1_SET_VOLUME, TRACK_2_SET_VOLUME, TRACK_3_SET_VOLUME, TRACK_4_SET_VOLUME, TRACK_5_SET_VOLUME, TRACK_6_SET_VOLUME, TRACK_7_SET_VOLUME, TRACK_8_SET_VOLUME:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_VOLUME.ordinal ()).getVolumeParameter ().addValueObserver (valueObserver));
+                break;
+
+            case TRACK_SELECTED_SET_VOLUME_TRACK:
+                cursorTrack.getVolumeParameter ().addValueObserver (valueObserver);
+                return true;
+
+            case TRACK_1_SET_PANORAMA, TRACK_2_SET_PANORAMA, TRACK_3_SET_PANORAMA, TRACK_4_SET_PANORAMA, TRACK_5_SET_PANORAMA, TRACK_6_SET_PANORAMA, TRACK_7_SET_PANORAMA, TRACK_8_SET_PANORAMA:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_PANORAMA.ordinal ()).getPanParameter ().addValueObserver (valueObserver));
+                break;
+
+            case TRACK_SELECTED_SET_PANORAMA:
+                cursorTrack.getPanParameter ().addValueObserver (valueObserver);
+                return true;
+
+            case TRACK_1_TOGGLE_MUTE, TRACK_2_TOGGLE_MUTE, TRACK_3_TOGGLE_MUTE, TRACK_4_TOGGLE_MUTE, TRACK_5_TOGGLE_MUTE, TRACK_6_TOGGLE_MUTE, TRACK_7_TOGGLE_MUTE, TRACK_8_TOGGLE_MUTE:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal ()).addMuteObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_MUTE, TRACK_2_SET_MUTE, TRACK_3_SET_MUTE, TRACK_4_SET_MUTE, TRACK_5_SET_MUTE, TRACK_6_SET_MUTE, TRACK_7_SET_MUTE, TRACK_8_SET_MUTE:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MUTE.ordinal ()).addMuteObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_MUTE, TRACK_SELECTED_SET_MUTE:
+                cursorTrack.addMuteObserver (stateObserver);
+                return true;
+
+            case TRACK_1_TOGGLE_SOLO, TRACK_2_TOGGLE_SOLO, TRACK_3_TOGGLE_SOLO, TRACK_4_TOGGLE_SOLO, TRACK_5_TOGGLE_SOLO, TRACK_6_TOGGLE_SOLO, TRACK_7_TOGGLE_SOLO, TRACK_8_TOGGLE_SOLO:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_SOLO.ordinal ()).addSoloObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_SOLO, TRACK_2_SET_SOLO, TRACK_3_SET_SOLO, TRACK_4_SET_SOLO, TRACK_5_SET_SOLO, TRACK_6_SET_SOLO, TRACK_7_SET_SOLO, TRACK_8_SET_SOLO:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_SOLO.ordinal ()).addSoloObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_SOLO, TRACK_SELECTED_SET_SOLO:
+                cursorTrack.addSoloObserver (stateObserver);
+                return true;
+
+            case TRACK_1_TOGGLE_ARM, TRACK_2_TOGGLE_ARM, TRACK_3_TOGGLE_ARM, TRACK_4_TOGGLE_ARM, TRACK_5_TOGGLE_ARM, TRACK_6_TOGGLE_ARM, TRACK_7_TOGGLE_ARM, TRACK_8_TOGGLE_ARM:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ARM.ordinal ()).addRecArmObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_ARM, TRACK_2_SET_ARM, TRACK_3_SET_ARM, TRACK_4_SET_ARM, TRACK_5_SET_ARM, TRACK_6_SET_ARM, TRACK_7_SET_ARM, TRACK_8_SET_ARM:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ARM.ordinal ()).addRecArmObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_ARM, TRACK_SELECTED_SET_ARM:
+                cursorTrack.addRecArmObserver (stateObserver);
+                return true;
+
+            case TRACK_1_TOGGLE_MONITOR, TRACK_2_TOGGLE_MONITOR, TRACK_3_TOGGLE_MONITOR, TRACK_4_TOGGLE_MONITOR, TRACK_5_TOGGLE_MONITOR, TRACK_6_TOGGLE_MONITOR, TRACK_7_TOGGLE_MONITOR, TRACK_8_TOGGLE_MONITOR:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MONITOR.ordinal ()).addMonitorObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_MONITOR, TRACK_2_SET_MONITOR, TRACK_3_SET_MONITOR, TRACK_4_SET_MONITOR, TRACK_5_SET_MONITOR, TRACK_6_SET_MONITOR, TRACK_7_SET_MONITOR, TRACK_8_SET_MONITOR:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MONITOR.ordinal ()).addMonitorObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_MONITOR, TRACK_SELECTED_SET_MONITOR:
+                cursorTrack.addMonitorObserver (stateObserver);
+                return true;
+
+            case TRACK_1_TOGGLE_AUTO_MONITOR, TRACK_2_TOGGLE_AUTO_MONITOR, TRACK_3_TOGGLE_AUTO_MONITOR, TRACK_4_TOGGLE_AUTO_MONITOR, TRACK_5_TOGGLE_AUTO_MONITOR, TRACK_6_TOGGLE_AUTO_MONITOR, TRACK_7_TOGGLE_AUTO_MONITOR, TRACK_8_TOGGLE_AUTO_MONITOR:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).addAutoMonitorObserver (stateObserver));
+                break;
+
+            case TRACK_1_SET_AUTO_MONITOR, TRACK_2_SET_AUTO_MONITOR, TRACK_3_SET_AUTO_MONITOR, TRACK_4_SET_AUTO_MONITOR, TRACK_5_SET_AUTO_MONITOR, TRACK_6_SET_AUTO_MONITOR, TRACK_7_SET_AUTO_MONITOR, TRACK_8_SET_AUTO_MONITOR:
+                this.addTrackBankObservers (trackBank -> trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_AUTO_MONITOR.ordinal ()).addAutoMonitorObserver (stateObserver));
+                break;
+
+            case TRACK_SELECTED_TOGGLE_AUTO_MONITOR, TRACK_SELECTED_SET_AUTO_MONITOR:
+                cursorTrack.addAutoMonitorObserver (stateObserver);
+                return true;
+
+            case TRACK_1_SET_SEND_1, TRACK_2_SET_SEND_1, TRACK_3_SET_SEND_1, TRACK_4_SET_SEND_1, TRACK_5_SET_SEND_1, TRACK_6_SET_SEND_1, TRACK_7_SET_SEND_1, TRACK_8_SET_SEND_1:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_1.ordinal (), 0, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_2, TRACK_2_SET_SEND_2, TRACK_3_SET_SEND_2, TRACK_4_SET_SEND_2, TRACK_5_SET_SEND_2, TRACK_6_SET_SEND_2, TRACK_7_SET_SEND_2, TRACK_8_SET_SEND_2:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_2.ordinal (), 1, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_3, TRACK_2_SET_SEND_3, TRACK_3_SET_SEND_3, TRACK_4_SET_SEND_3, TRACK_5_SET_SEND_3, TRACK_6_SET_SEND_3, TRACK_7_SET_SEND_3, TRACK_8_SET_SEND_3:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_3.ordinal (), 2, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_4, TRACK_2_SET_SEND_4, TRACK_3_SET_SEND_4, TRACK_4_SET_SEND_4, TRACK_5_SET_SEND_4, TRACK_6_SET_SEND_4, TRACK_7_SET_SEND_4, TRACK_8_SET_SEND_4:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_4.ordinal (), 3, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_5, TRACK_2_SET_SEND_5, TRACK_3_SET_SEND_5, TRACK_4_SET_SEND_5, TRACK_5_SET_SEND_5, TRACK_6_SET_SEND_5, TRACK_7_SET_SEND_5, TRACK_8_SET_SEND_5:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_5.ordinal (), 4, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_6, TRACK_2_SET_SEND_6, TRACK_3_SET_SEND_6, TRACK_4_SET_SEND_6, TRACK_5_SET_SEND_6, TRACK_6_SET_SEND_6, TRACK_7_SET_SEND_6, TRACK_8_SET_SEND_6:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_6.ordinal (), 5, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_7, TRACK_2_SET_SEND_7, TRACK_3_SET_SEND_7, TRACK_4_SET_SEND_7, TRACK_5_SET_SEND_7, TRACK_6_SET_SEND_7, TRACK_7_SET_SEND_7, TRACK_8_SET_SEND_7:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_7.ordinal (), 6, valueObserver);
+                break;
+
+            case TRACK_1_SET_SEND_8, TRACK_2_SET_SEND_8, TRACK_3_SET_SEND_8, TRACK_4_SET_SEND_8, TRACK_5_SET_SEND_8, TRACK_6_SET_SEND_8, TRACK_7_SET_SEND_8, TRACK_8_SET_SEND_8:
+                this.addSendObservers (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_8.ordinal (), 7, valueObserver);
+                break;
+
+            case TRACK_SELECTED_SET_SEND_1, TRACK_SELECTED_SET_SEND_2, TRACK_SELECTED_SET_SEND_3, TRACK_SELECTED_SET_SEND_4, TRACK_SELECTED_SET_SEND_5, TRACK_SELECTED_SET_SEND_6, TRACK_SELECTED_SET_SEND_7, TRACK_SELECTED_SET_SEND_8:
+                final int sendIndex = command.ordinal () - FlexiCommand.TRACK_SELECTED_SET_SEND_1.ordinal ();
+                this.addTrackBankObservers (trackBank -> trackBank.addSelectionObserver ( (index, isSelected) -> observer.update (command)));
+                this.addSendObservers (-1, sendIndex, valueObserver);
+                break;
+
+            // The pinned state is polled
+            case TRACK_SELECTED_TOGGLE_PIN, TRACK_SELECTED_SET_PIN:
+                return false;
+
+            default:
+                // No value
+                return true;
+        }
+
+        // The values of the tracks change as well when the current track bank is switched
+        this.model.addTrackBankObserver (trackBank -> observer.update (command));
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
@@ -1006,6 +1167,44 @@ public class TrackHandler extends AbstractHandler
     }
 
 
+    /**
+     * Register observers at the instrument/audio and the effect track bank, since both can become
+     * the current track bank.
+     *
+     * @param registration Registers the observers at a track bank
+     */
+    private void addTrackBankObservers (final Consumer<ITrackBank> registration)
+    {
+        registration.accept (this.model.getTrackBank ());
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            registration.accept (effectTrackBank);
+    }
+
+
+    /**
+     * Register an observer for the send of a track in the current track bank.
+     *
+     * @param trackIndex The index of the track in the page, -1 to observe the tracks of the whole
+     *            page (the send of the selected track is reflected)
+     * @param sendIndex The index of the send
+     * @param observer The observer to notify on a value change
+     */
+    private void addSendObservers (final int trackIndex, final int sendIndex, final IValueObserver<Integer> observer)
+    {
+        this.addTrackBankObservers (trackBank -> {
+            final int start = trackIndex < 0 ? 0 : trackIndex;
+            final int end = trackIndex < 0 ? trackBank.getPageSize () : trackIndex + 1;
+            for (int i = start; i < end; i++)
+            {
+                final ISendBank sendBank = trackBank.getItem (i).getSendBank ();
+                if (sendIndex < sendBank.getPageSize ())
+                    sendBank.getItem (sendIndex).addValueObserver (observer);
+            }
+        });
+    }
+
+
     private int getSendValue (final int trackIndex, final int sendIndex)
     {
         final Optional<ITrack> track = this.getTrack (trackIndex);
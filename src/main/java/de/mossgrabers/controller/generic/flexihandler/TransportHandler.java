@@ -17,6 +17,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -137,6 +138,71 @@ public class TransportHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final ITransport transport = this.model.getTransport ();
+        final IValueObserver<Boolean> stateObserver = value -> observer.update (command);
+
+        switch (command)
+        {
+            case TRANSPORT_PLAY, TRANSPORT_STOP:
+                transport.addPlayObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_REPEAT:
+                transport.addLoopObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_METRONOME:
+                transport.addMetronomeObserver (stateObserver);
+                break;
+
+            case TRANSPORT_SET_METRONOME_VOLUME:
+                transport.getMetronomeVolumeParameter ().addValueObserver (value -> observer.update (command));
+                break;
+
+            case TRANSPORT_TOGGLE_METRONOME_IN_PREROLL:
+                transport.addPrerollMetronomeObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_PUNCH_IN:
+                transport.addPunchInObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_PUNCH_OUT:
+                transport.addPunchOutObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_RECORD:
+                transport.addRecordObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_ARRANGER_OVERDUB:
+                transport.addArrangerOverdubObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_CLIP_OVERDUB:
+                transport.addLauncherOverdubObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_ARRANGER_AUTOMATION_WRITE:
+                transport.addArrangerAutomationWriteObserver (stateObserver);
+                break;
+
+            case TRANSPORT_TOGGLE_CLIP_AUTOMATION_WRITE:
+                transport.addClipLauncherAutomationWriteObserver (stateObserver);
+                break;
+
+            default:
+                // No value
+                break;
+        }
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
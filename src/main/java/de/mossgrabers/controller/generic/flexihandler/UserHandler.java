@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -104,6 +105,32 @@ public class UserHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean addValueObserver (final FlexiCommand command, final IValueObserver<FlexiCommand> observer)
+    {
+        final IParameterBank userParameterBank = this.model.getUserParameterBank ();
+        if (userParameterBank == null)
+            return true;
+
+        switch (command)
+        {
+            case USER_SET_PARAMETER_1, USER_SET_PARAMETER_2, USER_SET_PARAMETER_3, USER_SET_PARAMETER_4, USER_SET_PARAMETER_5, USER_SET_PARAMETER_6, USER_SET_PARAMETER_7, USER_SET_PARAMETER_8:
+                userParameterBank.getItem (command.ordinal () - FlexiCommand.USER_SET_PARAMETER_1.ordinal ()).addValueObserver (value -> observer.update (command));
+                break;
+
+            case USER_TOGGLE_PARAMETER_1, USER_TOGGLE_PARAMETER_2, USER_TOGGLE_PARAMETER_3, USER_TOGGLE_PARAMETER_4, USER_TOGGLE_PARAMETER_5, USER_TOGGLE_PARAMETER_6, USER_TOGGLE_PARAMETER_7, USER_TOGGLE_PARAMETER_8:
+                userParameterBank.getItem (command.ordinal () - FlexiCommand.USER_TOGGLE_PARAMETER_1.ordinal ()).addValueObserver (value -> observer.update (command));
+                break;
+
+            default:
+                // No value
+                break;
+        }
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void handle (final FlexiCommand command, final KnobMode knobMode, final MidiValue value)
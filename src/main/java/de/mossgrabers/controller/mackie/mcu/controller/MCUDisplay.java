@@ -9,11 +9,12 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -23,9 +24,38 @@ import java.util.concurrent.TimeUnit;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final byte []        SYSEX_DISPLAY_HEADER1_MAIN     =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12
+    };
+    private static final byte []        SYSEX_DISPLAY_HEADER1_EXTENDER =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x15,
+        0x12
+    };
+    private static final byte []        SYSEX_DISPLAY_HEADER2          =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x67,
+        0x15,
+        0x13
+    };
+
+    /** Header, offset and end byte. */
+    private static final int            SYSEX_OVERHEAD                 = SYSEX_DISPLAY_HEADER1_MAIN.length + 2;
+    /** The character offset of the second row. */
+    private static final int            SECOND_ROW_OFFSET              = 0x38;
 
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
@@ -35,6 +65,12 @@ public class MCUDisplay extends AbstractTextDisplay
     private boolean                     isShutdown                     = false;
     private boolean                     insertSpace                    = true;
 
+    /** The last text sent per row, only accessed by the executor of the row. */
+    private final char [] []            sentLines                      = new char [2] [];
+    /** Pooled sysex messages per row and length, only accessed by the executor of the row. */
+    private final byte [] [] []         messagePool                    = new byte [2] [] [];
+    private final AtomicBoolean []      isSentLineValid                = new AtomicBoolean [2];
+
 
     /**
      * Constructor. 2 rows (0-1) with 4 blocks (0-3). Each block consists of 18 characters or 2
@@ -56,6 +92,8 @@ public class MCUDisplay extends AbstractTextDisplay
 
         for (int i = 0; i < this.executors.length; i++)
             this.executors[i] = new LatestTaskExecutor ();
+        for (int i = 0; i < this.isSentLineValid.length; i++)
+            this.isSentLineValid[i] = new AtomicBoolean (false);
     }
 
 
@@ -76,12 +114,8 @@ public class MCUDisplay extends AbstractTextDisplay
     {
         try
         {
-            final String content;
-            if (this.insertSpace)
-                content = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
-            else
-                content = StringUtils.pad (value, this.charactersOfCell);
-            this.cells[row * this.noOfCells + column] = content;
+            final int textLength = this.insertSpace ? this.charactersOfCell - 1 : this.charactersOfCell;
+            this.writeCell (row, column, value, textLength, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -118,11 +152,7 @@ public class MCUDisplay extends AbstractTextDisplay
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendChangedCharacters (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -132,7 +162,121 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
-    private String getHeader ()
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        for (final AtomicBoolean isValid: this.isSentLineValid)
+            isValid.set (false);
+    }
+
+
+    /**
+     * Compares the text with the last sent text of the row and sends only the changed characters.
+     * Changed ranges which are only separated by a few unchanged characters are sent together
+     * since an additional message would be larger.
+     *
+     * @param row The row
+     * @param text The text of the row
+     */
+    private void sendChangedCharacters (final int row, final String text)
+    {
+        final int length = text.length ();
+        char [] sentLine = this.sentLines[row];
+        if (!this.isSentLineValid[row].getAndSet (true) || sentLine == null || sentLine.length != length)
+        {
+            sentLine = new char [length];
+            this.sentLines[row] = sentLine;
+            text.getChars (0, length, sentLine, 0);
+            this.sendCharacters (row, sentLine, 0, length);
+            return;
+        }
+
+        int pos = 0;
+        while (pos < length)
+        {
+            // Find the start of the next changed range
+            while (pos < length && text.charAt (pos) == sentLine[pos])
+                pos++;
+            if (pos == length)
+                return;
+
+            final int start = pos;
+            int end = pos;
+            int unchanged = 0;
+            while (pos < length && unchanged <= SYSEX_OVERHEAD)
+            {
+                final char c = text.charAt (pos);
+                if (c == sentLine[pos])
+                    unchanged++;
+                else
+                {
+                    sentLine[pos] = c;
+                    unchanged = 0;
+                    end = pos + 1;
+                }
+                pos++;
+            }
+
+            this.sendCharacters (row, sentLine, start, end);
+            pos = end;
+        }
+    }
+
+
+    /**
+     * Send a range of characters of a row.
+     *
+     * @param row The row
+     * @param characters The characters of the row
+     * @param start The first character to send
+     * @param end The end of the range (exclusive)
+     */
+    private void sendCharacters (final int row, final char [] characters, final int start, final int end)
+    {
+        final byte [] header = this.getHeader ();
+        final byte [] data = this.getMessage (row, end - start);
+        int index = header.length;
+        data[index++] = (byte) ((row == 0 ? 0 : SECOND_ROW_OFFSET) + start);
+        for (int i = start; i < end; i++)
+            data[index++] = (byte) (characters[i] & 0x7F);
+        this.output.sendSysex (data);
+    }
+
+
+    /**
+     * Get a pooled sysex message which has the room for the given number of characters. Header
+     * and end byte are already set.
+     *
+     * @param row The row
+     * @param numCharacters The number of characters
+     * @return The message
+     */
+    private byte [] getMessage (final int row, final int numCharacters)
+    {
+        byte [] [] pool = this.messagePool[row];
+        if (pool == null || pool.length <= numCharacters)
+        {
+            pool = pool == null ? new byte [numCharacters + 1] [] : Arrays.copyOf (pool, numCharacters + 1);
+            this.messagePool[row] = pool;
+        }
+
+        byte [] message = pool[numCharacters];
+        if (message == null)
+        {
+            final byte [] header = this.getHeader ();
+            message = new byte [numCharacters + SYSEX_OVERHEAD];
+            System.arraycopy (header, 0, message, 0, header.length);
+            message[message.length - 1] = (byte) 0xF7;
+            pool[numCharacters] = message;
+        }
+        return message;
+    }
+
+
+    private byte [] getHeader ()
     {
         if (this.isFirstDisplay)
             return this.isExtender ? SYSEX_DISPLAY_HEADER1_EXTENDER : SYSEX_DISPLAY_HEADER1_MAIN;
@@ -195,7 +195,7 @@ public class Kontrol1ControlSurface extends AbstractControlSurface<Kontrol1Confi
                 final int note = firstNote + index;
                 if (note >= 128)
                     return -1;
-                return this.lightGuide.getLightInfo (note).getEncoded ();
+                return this.lightGuide.getEncodedState (note);
 
             }, state -> {
 
@@ -8,7 +8,6 @@ import de.mossgrabers.controller.ni.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -79,12 +78,12 @@ public class Kontrol1Display extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (9), 8);
+            this.writeCell (row, cell, value, 9, 9);
+            this.writeCell (row, cell + 1, value.substring (9), 8, 8);
         }
         else
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value, 9);
+            this.writeCell (row, cell, value, 9, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
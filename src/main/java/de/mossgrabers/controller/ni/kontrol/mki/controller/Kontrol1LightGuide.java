@@ -38,13 +38,28 @@ public class Kontrol1LightGuide extends LightGuideImpl
     public int [] translateToController (final int note)
     {
         final int [] translated = super.translateToController (note);
+        translated[1] = this.getControllerNote (note);
+        return translated;
+    }
 
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getControllerChannel (final int note)
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getControllerNote (final int note)
+    {
+        // Depends on the octave transposition of the keyboard, therefore cannot be cached
         final int firstNote = this.usbDevice.getFirstNote ();
         if (note < firstNote || note >= firstNote + this.usbDevice.getNumKeys ())
-            translated[1] = -1;
-        else
-            translated[1] = note - firstNote;
-        return translated;
+            return -1;
+        return note - firstNote;
     }
 
 
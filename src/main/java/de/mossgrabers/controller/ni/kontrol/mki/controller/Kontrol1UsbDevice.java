@@ -425,6 +425,14 @@ public class Kontrol1UsbDevice
 
     private int                                mainEncoderValue;
     private final int []                       encoderValues             = new int [8];
+    private final int []                       buttonBytes               = new int [5];
+
+    // Encoder changes collected from the HID reports until the next host task
+    private final Object                       encoderChangeLock         = new Object ();
+    private int                                mainEncoderChange;
+    private final int []                       encoderChanges            = new int [8];
+    private final int []                       flushedEncoderChanges     = new int [8];
+    private boolean                            isEncoderTaskScheduled    = false;
     private int                                firstNote                 = 48;
 
     private final byte []                      buttonStates              = new byte [21];
@@ -831,7 +839,8 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Process the received HID message.
+     * Process the received HID message. Only the buttons which changed since the last report are
+     * dispatched. Encoder changes are accumulated and delivered in one host task.
      *
      * @param reportID The report (= function/method) number
      * @param data The data
@@ -843,62 +852,66 @@ public class Kontrol1UsbDevice
 
         boolean encoderChange = false;
 
-        // Decode main knob
-        final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
-        if (currentEncoderValue != this.mainEncoderValue)
+        synchronized (this.encoderChangeLock)
         {
-            final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
-            this.mainEncoderValue = currentEncoderValue;
-            if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
-            encoderChange = true;
-        }
-
-        // Decode 8 value knobs
-        final int start = 6;
-        for (int encIndex = 0; encIndex < 8; encIndex++)
-        {
-            final int pos = start + 2 * encIndex;
-
-            final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
-            if (this.encoderValues[encIndex] != value)
+            // Decode main knob
+            final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
+            if (currentEncoderValue != this.mainEncoderValue)
             {
-                // Value is between 0 and 999. It increases or descrease and wraps around if it goes
-                // below 0 or above 999
-
-                int diff = value - this.encoderValues[encIndex];
-                // Check for wrap around from 999 to 0 when increasing
-                if (diff < -500)
-                    diff = 999 + diff;
-                // Check for wrap around from 0 to 999 when decreasing
-                else if (diff > 500)
-                    diff = diff - 999;
-
-                this.encoderValues[encIndex] = value;
+                final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
+                this.mainEncoderValue = currentEncoderValue;
                 if (!this.isFirstStateMsg)
+                    this.mainEncoderChange += valueIncreased ? 1 : -1;
+                encoderChange = true;
+            }
+
+            // Decode 8 value knobs
+            final int start = 6;
+            for (int encIndex = 0; encIndex < 8; encIndex++)
+            {
+                final int pos = start + 2 * encIndex;
+
+                final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
+                if (this.encoderValues[encIndex] != value)
                 {
-                    final int ei = encIndex;
+                    // Value is between 0 and 999. It increases or descrease and wraps around if it
+                    // goes below 0 or above 999
 
-                    // Slow down, minimum value seems to be 4
-                    final int control = diff / 4;
+                    int diff = value - this.encoderValues[encIndex];
+                    // Check for wrap around from 999 to 0 when increasing
+                    if (diff < -500)
+                        diff = 999 + diff;
+                    // Check for wrap around from 0 to 999 when decreasing
+                    else if (diff > 500)
+                        diff = diff - 999;
 
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, control), 0);
+                    this.encoderValues[encIndex] = value;
+
+                    // Slow down, minimum value seems to be 4
+                    if (!this.isFirstStateMsg)
+                        this.encoderChanges[encIndex] += diff / 4;
+                    encoderChange = true;
                 }
-                encoderChange = true;
+            }
+
+            if (encoderChange && !this.isFirstStateMsg && !this.isEncoderTaskScheduled)
+            {
+                this.isEncoderTaskScheduled = true;
+                this.host.scheduleTask (this::flushEncoderChanges, 0);
             }
         }
 
         this.isFirstStateMsg = false;
 
         // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
+        this.testByteForButtons (data, 0, BYTE_0);
+        this.testByteForButtons (data, 1, BYTE_1);
+        this.testByteForButtons (data, 2, BYTE_2);
         // Don't test touch events on encoder change to prevent flickering
         if (!encoderChange)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            this.testByteForButtons (data, 3, BYTE_3);
+            this.testByteForButtons (data, 4, BYTE_4);
         }
 
         // Changes the octave on the keyboard
@@ -911,6 +924,38 @@ public class Kontrol1UsbDevice
     }
 
 
+    /**
+     * Deliver all encoder changes which were accumulated since the last call.
+     */
+    private void flushEncoderChanges ()
+    {
+        final int mainChange;
+        synchronized (this.encoderChangeLock)
+        {
+            mainChange = this.mainEncoderChange;
+            this.mainEncoderChange = 0;
+            System.arraycopy (this.encoderChanges, 0, this.flushedEncoderChanges, 0, this.encoderChanges.length);
+            Arrays.fill (this.encoderChanges, 0);
+            this.isEncoderTaskScheduled = false;
+        }
+
+        if (this.callback == null)
+            return;
+
+        final boolean valueIncreased = mainChange > 0;
+        for (int i = Math.abs (mainChange); i > 0; i--)
+            this.callback.mainEncoderChanged (valueIncreased);
+
+        for (int encIndex = 0; encIndex < this.flushedEncoderChanges.length; encIndex++)
+        {
+            final int change = this.flushedEncoderChanges[encIndex];
+            // The relative value must fit into 7 bit
+            if (change != 0)
+                this.callback.encoderChanged (encIndex, Math.max (-63, Math.min (63, change)));
+        }
+    }
+
+
     private byte [] getCharacter (final int row, final int index)
     {
         final char c = this.texts[row][index];
@@ -951,14 +996,21 @@ public class Kontrol1UsbDevice
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
+    private void testByteForButtons (final byte [] data, final int index, final int [] buttons)
     {
         if (this.callback == null)
             return;
 
-        final int t = Byte.toUnsignedInt (b);
+        final int t = Byte.toUnsignedInt (data[index]);
+        final int changed = t ^ this.buttonBytes[index];
+        if (changed == 0)
+            return;
+        this.buttonBytes[index] = t;
+
         for (int i = 0; i < buttons.length; i++)
         {
+            if ((changed & TEST_BITS[i]) == 0)
+                continue;
             final int button = buttons[i];
             final boolean isPressed = (t & TEST_BITS[i]) > 0;
             this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
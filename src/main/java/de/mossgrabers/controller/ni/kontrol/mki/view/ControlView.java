@@ -6,6 +6,7 @@ package de.mossgrabers.controller.ni.kontrol.mki.view;
 
 import de.mossgrabers.controller.ni.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.controller.ni.kontrol.mki.controller.Kontrol1ControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -25,6 +26,14 @@ import de.mossgrabers.framework.view.AbstractPlayView;
  */
 public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontrol1Configuration>
 {
+    private final ColorHandle colorScaleOff;
+    private final ColorHandle colorPadRecord;
+    private final ColorHandle colorPadPlay;
+    private final ColorHandle colorPadMuted;
+    private final ColorHandle colorPadNoContent;
+    private final ColorHandle colorPadOff;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +43,13 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
     public ControlView (final Kontrol1ControlSurface surface, final IModel model)
     {
         super (surface, model, true);
+
+        this.colorScaleOff = this.colorManager.getColorHandle (Scales.SCALE_COLOR_OFF);
+        this.colorPadRecord = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_RECORD);
+        this.colorPadPlay = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_PLAY);
+        this.colorPadMuted = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_MUTED);
+        this.colorPadNoContent = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_NO_CONTENT);
+        this.colorPadOff = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_OFF);
     }
 
 
@@ -71,26 +87,26 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
     }
 
 
-    protected String getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
+    protected ColorHandle getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
     {
         final int midiNote = this.keyManager.map (index);
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return this.colorScaleOff;
 
         // Playing note?
         if (this.keyManager.isKeyPressed (index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? this.colorPadRecord : this.colorPadPlay;
 
         // Exists and active?
         final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
         final IChannel drumPad = drumPadBank.getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? this.colorPadOff : this.colorPadNoContent;
 
         // Muted or soloed?
         if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
-        return DAWColor.getColorIndex (drumPad.getColor ());
+            return this.colorPadMuted;
+        return this.colorManager.getColorHandle (DAWColor.getClosestColor (drumPad.getColor ()));
     }
 
 
@@ -9,8 +9,6 @@ import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.Map.Entry;
-
 
 /**
  * Implementation of the Maschine grid of pads.
@@ -51,32 +49,24 @@ public class MaschinePadGrid extends BlinkingPadGrid
     {
         final int channel = 0;
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.dirtyPads.nextSetBit (0); note >= 0; note = this.dirtyPads.nextSetBit (note + 1))
         {
-            final Integer note = e.getKey ();
-            final LightInfo info = e.getValue ();
-
-            // Note: The exact PADx is not needed for getting the color
-
-            this.output.sendNoteEx (channel, note.intValue (), info.getColor ());
+            final int state = this.padStates[note];
+            this.output.sendNoteEx (channel, this.getControllerNote (note), LightInfo.decodeColor (state));
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (note, info);
-            else
-                this.blinkingLights.remove (note);
+            this.blinkingPads.set (note, LightInfo.decodeBlinkColor (state) > 0);
         }
 
         // Toggle blink colors every 600ms
         if (!this.checkBlinking ())
             return;
-        for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+        for (int note = this.blinkingPads.nextSetBit (0); note >= 0; note = this.blinkingPads.nextSetBit (note + 1))
         {
-            final LightInfo info = value.getValue ();
-            final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
-            final int note = value.getKey ().intValue ();
-            this.output.sendNoteEx (channel, note, colorIndex);
+            final int state = this.padStates[note];
+            final int colorIndex = this.isBlink ? LightInfo.decodeBlinkColor (state) : LightInfo.decodeColor (state);
+            this.output.sendNoteEx (channel, this.getControllerNote (note), colorIndex);
         }
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import de.mossgrabers.controller.ni.maschine.mk3.controller.MaschineControlSurfa
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.display.IDisplay;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -55,6 +56,15 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
     private IStepInfo                   copyNote;
     private boolean                     isChordActive;
 
+    private final ColorHandle           colorNoContent;
+    private final ColorHandle           colorContent;
+    private final ColorHandle           colorContentCont;
+    private final ColorHandle           colorStepHiliteNoContent;
+    private final ColorHandle           colorStepHiliteContent;
+    private final ColorHandle           colorStepSelected;
+    private final ColorHandle           colorStepMuted;
+    private final ColorHandle           colorStepMutedCont;
+
 
     /**
      * Constructor.
@@ -72,6 +82,15 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
         this.configuration = surface.getConfiguration ();
         this.configuration.addSettingObserver (AbstractConfiguration.ACTIVATE_FIXED_ACCENT, this::initMaxVelocity);
         this.configuration.addSettingObserver (AbstractConfiguration.FIXED_ACCENT_VALUE, this::initMaxVelocity);
+
+        this.colorNoContent = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_NO_CONTENT);
+        this.colorContent = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_CONTENT);
+        this.colorContentCont = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_CONTENT_CONT);
+        this.colorStepHiliteNoContent = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT);
+        this.colorStepHiliteContent = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_STEP_HILITE_CONTENT);
+        this.colorStepSelected = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_STEP_SELECTED);
+        this.colorStepMuted = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_STEP_MUTED);
+        this.colorStepMutedCont = this.colorManager.getColorHandle (AbstractSequencerView.COLOR_STEP_MUTED_CONT);
     }
 
 
@@ -180,7 +199,7 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
 
             if (noteRow == -1)
             {
-                padGrid.lightEx (x, y, AbstractSequencerView.COLOR_NO_CONTENT);
+                padGrid.lightEx (x, y, this.colorNoContent);
                 continue;
             }
 
@@ -219,10 +238,10 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
      * @param editNotes The currently edited notes
      * @return The color
      */
-    protected String getStepColor (final boolean isActive, final IStepInfo stepInfo, final boolean hilite, final int channel, final int step, final int note, final List<GridStep> editNotes)
+    protected ColorHandle getStepColor (final boolean isActive, final IStepInfo stepInfo, final boolean hilite, final int channel, final int step, final int note, final List<GridStep> editNotes)
     {
         if (!isActive)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return this.colorNoContent;
 
         final Optional<ITrack> track = this.model.getCurrentTrackBank ().getSelectedItem ();
 
@@ -230,27 +249,27 @@ public class PlayView extends AbstractPlayView<MaschineControlSurface, MaschineC
         {
             case START:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return AbstractSequencerView.COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return AbstractSequencerView.COLOR_STEP_MUTED;
-                return track.isPresent () ? DAWColor.getColorIndex (ColorEx.darker (track.get ().getColor ())) : AbstractSequencerView.COLOR_CONTENT;
+                    return this.colorStepMuted;
+                return track.isPresent () ? this.colorManager.getColorHandle (DAWColor.getClosestColor (ColorEx.darker (track.get ().getColor ()))) : this.colorContent;
 
             case CONTINUE:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return AbstractSequencerView.COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return AbstractSequencerView.COLOR_STEP_MUTED_CONT;
-                return track.isPresent () ? DAWColor.getColorIndex (ColorEx.darker (track.get ().getColor ())) : AbstractSequencerView.COLOR_CONTENT_CONT;
+                    return this.colorStepMutedCont;
+                return track.isPresent () ? this.colorManager.getColorHandle (DAWColor.getClosestColor (ColorEx.darker (track.get ().getColor ()))) : this.colorContentCont;
 
             case OFF:
             default:
                 if (hilite)
-                    return AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
-                return AbstractSequencerView.COLOR_NO_CONTENT;
+                    return this.colorStepHiliteNoContent;
+                return this.colorNoContent;
         }
     }
 
@@ -174,14 +174,14 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
             int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
 
             final ButtonID buttonID2 = ButtonID.get (ButtonID.PAD33, i);
             pad = this.createButton (buttonID2, "DS " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID2), null));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID2), null));
             translated = LaunchkeyPadGrid.translateToController (Views.DEVICE, note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -6,13 +6,13 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -44,7 +44,9 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final int []                         updateNotes  = new int [NUM_NOTES];
+    private final int []                         updateStates = new int [NUM_NOTES];
+    private final SysexBuilder                   sysexBuilder;
 
 
     /**
@@ -59,6 +61,7 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+        this.sysexBuilder = output.createSysexBuilder ();
     }
 
 
@@ -89,37 +92,30 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
-        {
-            if (this.padInfos.isEmpty ())
-                return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
-        }
+        this.flushDirtyPads ();
     }
 
 
     /** {@inheritDoc} */
     @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    public void sendState (final int note)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
+        this.markDirty (note);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
+    protected void sendDirtyPads (final BitSet pads)
     {
-        synchronized (this.padInfos)
+        int count = 0;
+        for (int note = pads.nextSetBit (0); note >= 0; note = pads.nextSetBit (note + 1))
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.updateNotes[count] = this.getControllerNote (note);
+            this.updateStates[count] = this.padStates[note];
+            count++;
         }
+
+        this.definition.sendLEDUpdate (this.sysexBuilder, this.updateNotes, this.updateStates, count);
     }
 }
\ No newline at end of file
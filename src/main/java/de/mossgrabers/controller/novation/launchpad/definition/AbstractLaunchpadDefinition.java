@@ -9,12 +9,9 @@ import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetu
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -26,6 +23,7 @@ import java.util.UUID;
 public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefinition implements ILaunchpadControllerDefinition
 {
     protected final ButtonSetup buttonSetup = new ButtonSetup ();
+    private byte []             sysExHeaderBytes;
 
 
     /**
@@ -110,35 +108,46 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public byte [] getSysExHeaderBytes ()
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        if (this.sysExHeaderBytes == null)
+            this.sysExHeaderBytes = StringUtils.fromHexStrToBytes (this.getSysExHeader ().replace (" ", ""));
+        return this.sysExHeaderBytes;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendLEDUpdate (final SysexBuilder sysexBuilder, final int [] notes, final int [] states, final int count)
+    {
+        sysexBuilder.start (this.getSysExHeaderBytes ()).add7Bit (0x03);
+        for (int i = 0; i < count; i++)
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            final int note = notes[i];
+            final int color = LightInfo.decodeColor (states[i]);
+            final int blinkColor = LightInfo.decodeBlinkColor (states[i]);
 
-            if (info.getBlinkColor () <= 0)
+            if (blinkColor <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                sysexBuilder.add7Bit (0x00).add7Bit (note).add7Bit (color);
             }
             else
             {
-                if (info.isFast ())
+                if (LightInfo.decodeFast (states[i]))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysexBuilder.add7Bit (0x01).add7Bit (note).add7Bit (blinkColor).add7Bit (color);
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    sysexBuilder.add7Bit (0x02).add7Bit (note).add7Bit (color);
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        sysexBuilder.send ();
     }
 }
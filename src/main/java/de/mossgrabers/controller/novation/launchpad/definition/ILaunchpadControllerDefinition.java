@@ -6,10 +6,7 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -43,6 +40,14 @@ public interface ILaunchpadControllerDefinition
     String getSysExHeader ();
 
 
+    /**
+     * Get the MIDI system exclusive header of the specific Launchpad.
+     *
+     * @return The bytes of the header
+     */
+    byte [] getSysExHeaderBytes ();
+
+
     /**
      * Get the command to switch to standalone mode.
      *
@@ -93,10 +98,12 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Send the update system exclusive messages for all given pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param sysexBuilder The builder to use for the messages
+     * @param notes The controller notes of the pads to update
+     * @param states The encoded color and blink states of the pads, see LightInfo.encode
+     * @param count The number of pads to update
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void sendLEDUpdate (SysexBuilder sysexBuilder, int [] notes, int [] states, int count);
 }
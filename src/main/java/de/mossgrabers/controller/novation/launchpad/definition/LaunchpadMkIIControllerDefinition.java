@@ -7,14 +7,11 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -109,37 +106,48 @@ public class LaunchpadMkIIControllerDefinition extends AbstractLaunchpadDefiniti
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void sendLEDUpdate (final SysexBuilder sysexBuilder, final int [] notes, final int [] states, final int count)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        if (count == 0)
+            return;
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+        final byte [] header = this.getSysExHeaderBytes ();
+        sysexBuilder.start (header).add7Bit (0x0A);
+        for (int i = 0; i < count; i++)
+            sysexBuilder.add7Bit (notes[i]).add7Bit (LightInfo.decodeColor (states[i]));
+        sysexBuilder.send ();
+
+        sendBlinkUpdate (sysexBuilder, header, 0x23, true, notes, states, count);
+        sendBlinkUpdate (sysexBuilder, header, 0x28, false, notes, states, count);
+    }
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
 
-            if (info.getBlinkColor () > 0)
+    /**
+     * Send the flashing or pulsing colors of the given pads. Nothing is sent if none of the pads
+     * blinks in the requested way.
+     *
+     * @param sysexBuilder The builder to use for the message
+     * @param header The system exclusive header
+     * @param command The flash or pulse command
+     * @param isFast True to send the flashing pads, false to send the pulsing pads
+     * @param notes The controller notes of the pads to update
+     * @param states The encoded color and blink states of the pads, see LightInfo.encode
+     * @param count The number of pads to update
+     */
+    private static void sendBlinkUpdate (final SysexBuilder sysexBuilder, final byte [] header, final int command, final boolean isFast, final int [] notes, final int [] states, final int count)
+    {
+        sysexBuilder.start (header).add7Bit (command);
+        final int length = sysexBuilder.getLength ();
+        for (int i = 0; i < count; i++)
+        {
+            final int blinkColor = LightInfo.decodeBlinkColor (states[i]);
+            if (blinkColor > 0 && LightInfo.decodeFast (states[i]) == isFast)
             {
                 // Note: The MkII has an additional prefixed 00 instead of the Pro!
-                if (info.isFast ())
-                    sbFlash.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                sysexBuilder.add7Bit (0x00).add7Bit (notes[i]).add7Bit (blinkColor);
             }
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        if (sysexBuilder.getLength () > length)
+            sysexBuilder.send ();
     }
 }
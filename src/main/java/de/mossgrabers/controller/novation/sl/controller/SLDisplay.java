@@ -75,7 +75,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = "         ";
+        this.writeCell (row, column, null, 0, 9);
         return this;
     }
 
@@ -87,12 +87,12 @@ public class SLDisplay extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
+            this.writeCell (row, cell, value, 9, 9);
+            this.writeCell (row, cell + 1, value.substring (9), 8, 9);
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
+            this.writeCell (row, cell, value, 9, 9);
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -105,7 +105,7 @@ public class SLDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
+            this.writeCell (row, column, value, 8, 9);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
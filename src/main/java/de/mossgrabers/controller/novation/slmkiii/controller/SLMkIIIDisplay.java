@@ -8,8 +8,11 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * The displays of SL MkIII.
@@ -18,12 +21,24 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
-
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final byte [] MKIII_SYSEX_HEADER               =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01
+    };
+    private static final int     MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int     MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int     MKIII_SYSEX_LED_COMMAND          = 0x03;
+    private static final int     MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
+    /** Several property records are packed into one message up to this length. */
+    private static final int     MAX_PROPERTY_MESSAGE_LENGTH      = 256;
+    /** Column, property, object, 9 characters and the terminating zero. */
+    private static final int     MAX_PROPERTY_RECORD_LENGTH       = 13;
 
     /** The empty layout. */
     public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
@@ -32,13 +47,16 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
 
     private final String []      ledCache                         = new String [8];
     private final int [] []      displayColorCache                = new int [9] [4];
     private final int [] []      displayValueCache                = new int [9] [4];
+    private final String [] []   displayTextCache                 = new String [9] [4];
+    private final SysexBuilder   sysexBuilder;
+    private boolean              hasPendingProperties             = false;
 
 
     /**
@@ -51,6 +69,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     {
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
+        this.sysexBuilder = output.createSysexBuilder ();
         for (int i = 0; i < 8; i++)
             this.ledCache[i] = "";
         this.clearDisplayCache ();
@@ -77,7 +96,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.sendProperties ();
+        this.sysexBuilder.start (MKIII_SYSEX_HEADER).add7Bit (MKIII_SYSEX_LAYOUT_COMMAND).add7Bit (layout.intValue ()).send ();
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -104,8 +124,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
-        final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.sendProperties ();
+        this.sysexBuilder.start (MKIII_SYSEX_HEADER).add7Bit (MKIII_SYSEX_LED_COMMAND).add7Bit (led).add7Bit (0x01).addRGB (color).send ();
     }
 
 
@@ -122,7 +142,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.addProperty (PROPERTY_COLOR, hPosition, vPosition).add7Bit (color);
     }
 
 
@@ -139,8 +159,11 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        if (ascii.equals (this.displayTextCache[hPosition][vPosition]))
+            return;
+        this.displayTextCache[hPosition][vPosition] = ascii;
+
+        this.addProperty (PROPERTY_TEXT, hPosition, vPosition).addAscii (ascii).add7Bit (0x00);
     }
 
 
@@ -157,22 +180,65 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.addProperty (PROPERTY_VALUE, hPosition, vPosition).add7Bit (value);
     }
 
 
     /**
-     * Set a display property.
+     * Add a property record to the pending property message. A new message is started if there is
+     * none or the pending one is full. The value of the property needs to be appended to the
+     * returned builder. The pending message is sent on flush.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @return The builder of the message
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder addProperty (final int property, final int hPosition, final int vPosition)
+    {
+        // Keep room for the record and the end byte
+        if (this.hasPendingProperties && this.sysexBuilder.getLength () + MAX_PROPERTY_RECORD_LENGTH + 1 > MAX_PROPERTY_MESSAGE_LENGTH)
+            this.sendProperties ();
+
+        if (!this.hasPendingProperties)
+        {
+            this.sysexBuilder.start (MKIII_SYSEX_HEADER).add7Bit (MKIII_SYSEX_PROPERTY_COMMAND);
+            this.hasPendingProperties = true;
+        }
+        return this.sysexBuilder.add7Bit (hPosition).add7Bit (property).add7Bit (vPosition);
+    }
+
+
+    /**
+     * Send the pending property message, if any.
+     */
+    private void sendProperties ()
+    {
+        if (!this.hasPendingProperties)
+            return;
+        this.hasPendingProperties = false;
+        this.sysexBuilder.send ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        super.flush ();
+
+        this.sendProperties ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        for (final String [] texts: this.displayTextCache)
+            Arrays.fill (texts, null);
     }
 
 
@@ -180,6 +246,8 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     @Override
     protected void notifyOnDisplay (final String message)
     {
+        this.sendProperties ();
+
         final String ascii = StringUtils.fixASCII (message);
 
         String text1;
@@ -195,9 +263,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        this.sysexBuilder.start (MKIII_SYSEX_HEADER).add7Bit (MKIII_SYSEX_NOTIFICATION_COMMAND).addAscii (text1).add7Bit (0x00).addAscii (text2).add7Bit (0x00).send ();
     }
 
 
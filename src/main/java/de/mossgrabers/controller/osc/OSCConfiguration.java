@@ -97,6 +97,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        this.activateOSCBundleSettings (globalSettings, CATEGORY_SETUP);
+
         ///////////////////////////
         // Protocol
 
@@ -50,6 +50,7 @@ import java.util.List;
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
     private OSCWriter               writer;
+    private IOpenSoundControlClient oscClient;
     private KeyManager              keyManager;
     private IOpenSoundControlServer oscServer;
 
@@ -145,6 +146,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
 
         this.configuration.registerDeactivatedItemsHandler (this.model);
 
+        this.configuration.addSettingObserver (OSCConfiguration.MAX_BUNDLE_SIZE, this::updateBundleOptions);
+        this.configuration.addSettingObserver (OSCConfiguration.BUNDLE_PAUSE, this::updateBundleOptions);
+
         this.configuration.addSettingObserver (OSCConfiguration.VALUE_RESOLUTION, () -> {
             switch (this.configuration.getValueResolution ())
             {
@@ -182,8 +186,8 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+        this.writer = new OSCWriter (this.host, this.model, this.oscClient, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -212,6 +216,17 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        if (this.oscClient != null)
+            this.oscClient.close ();
+
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -219,4 +234,10 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         // Initial flush of the whole DAW state
         this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
     }
+
+
+    private void updateBundleOptions ()
+    {
+        this.oscClient.setBundleOptions (this.configuration.getMaxBundleSize (), this.configuration.getBundlePause ());
+    }
 }
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.AddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
@@ -64,6 +65,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerAddresses (final AddressTrie addressTrie)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -193,6 +202,23 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Flush all data of a parameter to pre-compiled address slots.
+     *
+     * @param writer Where to send the messages to
+     * @param addresses The address slots of the parameter
+     * @param fxParam The parameter
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    protected static void flushParameterData (final IOpenSoundControlWriter writer, final ParameterAddresses addresses, final IParameter fxParam, final boolean dump)
+    {
+        writer.sendOSC (addresses.name, fxParam.getName (), dump);
+        writer.sendOSC (addresses.valueStr, fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (addresses.value, fxParam.getValue (), dump);
+        writer.sendOSC (addresses.modulatedValue, fxParam.getModulatedValue (), dump);
+    }
+
+
     protected static Optional<ColorEx> matchColor (final String value)
     {
         final Matcher matcher = RGB_COLOR_PATTERN.matcher (value);
@@ -203,4 +229,32 @@ public abstract class AbstractModule implements IModule
             return Optional.of (new ColorEx (Double.parseDouble (matcher.group (2)) / 255.0, Double.parseDouble (matcher.group (4)) / 255.0, Double.parseDouble (matcher.group (6)) / 255.0));
         return Optional.empty ();
     }
+
+
+    /**
+     * The pre-compiled address slots of a parameter.
+     */
+    protected static class ParameterAddresses
+    {
+        final int name;
+        final int valueStr;
+        final int value;
+        final int modulatedValue;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which manages the address slots
+         * @param fxAddress The start address for the parameter
+         * @param isSend True if the parameter is a send
+         */
+        public ParameterAddresses (final IOpenSoundControlWriter writer, final String fxAddress, final boolean isSend)
+        {
+            this.name = writer.getAddressSlot (fxAddress + TAG_NAME);
+            this.valueStr = writer.getAddressSlot (fxAddress + (isSend ? "volumeStr" : "valueStr"));
+            this.value = writer.getAddressSlot (fxAddress + (isSend ? TAG_VOLUME : "value"));
+            this.modulatedValue = writer.getAddressSlot (fxAddress + "modulatedValue");
+        }
+    }
 }
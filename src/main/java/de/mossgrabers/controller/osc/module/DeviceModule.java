@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.AddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -99,6 +100,15 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerAddresses (final AddressTrie addressTrie)
+    {
+        addressTrie.register ("/device/param/{int}/value", (numbers, value) -> this.getCursorDeviceParameter (numbers[0]).setValue (toInteger (value)));
+        addressTrie.register ("/device/param/{int}/touched", (numbers, value) -> this.getCursorDeviceParameter (numbers[0]).touchValue (isTrigger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -614,6 +624,18 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /**
+     * Get a parameter of the cursor device.
+     *
+     * @param paramNumber The number of the parameter as used in the OSC address (1-based)
+     * @return The parameter
+     */
+    private IParameter getCursorDeviceParameter (final int paramNumber)
+    {
+        return this.model.getCursorDevice ().getParameterBank ().getItem (paramNumber - 1);
+    }
+
+
     private static void parseFXParamValue (final ISpecificDevice cursorDevice, final int fxparamIndex, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.AddressTrie;
 
 import java.util.LinkedList;
 
@@ -39,6 +40,15 @@ public interface IModule
     void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
+    /**
+     * Register the addresses which are received at a high rate (e.g. fader moves) and should be
+     * dispatched without parsing the address. All other addresses are handled by execute.
+     *
+     * @param addressTrie The trie in which to register the addresses
+     */
+    void registerAddresses (AddressTrie addressTrie);
+
+
     /**
      * Send all related data of this module via OSC messages.
      *
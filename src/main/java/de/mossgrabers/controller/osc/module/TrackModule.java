@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.AddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -34,7 +35,21 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
+    private static final String []        CHANNEL_TYPE_NAMES = new String [ChannelType.values ().length];
+    private static final ClipAddresses [] NO_CLIP_ADDRESSES  = new ClipAddresses [0];
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase (Locale.US);
+    }
+
     private final OSCConfiguration configuration;
+    private final TrackAddresses   masterAddresses;
+    private final TrackAddresses   selectedAddresses;
+    private final int              toggleBankAddress;
+    private final int              hasParentAddress;
+    private TrackAddresses []      trackAddresses = new TrackAddresses [0];
 
 
     /**
@@ -50,6 +65,11 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.masterAddresses = new TrackAddresses (writer, "/master/");
+        this.selectedAddresses = new TrackAddresses (writer, "/track/selected/");
+        this.toggleBankAddress = writer.getAddressSlot ("/track/toggleBank");
+        this.hasParentAddress = writer.getAddressSlot ("/track/hasParent");
     }
 
 
@@ -94,18 +114,50 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerAddresses (final AddressTrie addressTrie)
+    {
+        addressTrie.register ("/track/{int}/volume", (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        addressTrie.register ("/track/{int}/volume/touched", (numbers, value) -> this.getTrack (numbers[0]).touchVolume (isTrigger (value)));
+        addressTrie.register ("/track/{int}/pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        addressTrie.register ("/track/{int}/pan/touched", (numbers, value) -> this.getTrack (numbers[0]).touchPan (isTrigger (value)));
+        addressTrie.register ("/track/{int}/send/{int}/volume", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        addressTrie.register ("/track/{int}/send/{int}/volume/touched", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.touchValue (isTrigger (value));
+        });
+        addressTrie.register ("/master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        addressTrie.register ("/master/volume/touched", (numbers, value) -> this.model.getMasterTrack ().touchVolume (isTrigger (value)));
+        addressTrie.register ("/master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+        addressTrie.register ("/master/pan/touched", (numbers, value) -> this.model.getMasterTrack ().touchPan (isTrigger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
-        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        if (this.trackAddresses.length != pageSize)
+        {
+            this.trackAddresses = new TrackAddresses [pageSize];
+            for (int i = 0; i < pageSize; i++)
+                this.trackAddresses[i] = new TrackAddresses (this.writer, "/track/" + (i + 1) + "/");
+        }
+
+        for (int i = 0; i < pageSize; i++)
+            this.flushTrack (this.writer, this.trackAddresses[i], trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), dump);
+        this.flushTrack (this.writer, this.selectedAddresses, this.model.getCursorTrack (), dump);
+        this.writer.sendOSC (this.toggleBankAddress, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.hasParentAddress, trackBank.hasParent (), dump);
     }
 
 
@@ -113,66 +165,87 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The address slots of the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        // Skip collecting the values if no client is interested in them
+        if (!writer.isSubscribed (addresses.trackAddress))
+            return;
+
+        writer.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (addresses.type, type == null ? null : CHANNEL_TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (addresses.activated, track.isActivated (), dump);
+        writer.sendOSC (addresses.selected, track.isSelected (), dump);
+        writer.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        writer.sendOSC (addresses.name, track.getName (), dump);
+        writer.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        writer.sendOSC (addresses.volume, track.getVolume (), dump);
+        writer.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        writer.sendOSC (addresses.pan, track.getPan (), dump);
+        writer.sendOSC (addresses.mute, track.isMute (), dump);
+        writer.sendOSC (addresses.solo, track.isSolo (), dump);
+        writer.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        writer.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        writer.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        writer.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        writer.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        writer.sendOSC (addresses.position, track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (addresses.pinned, cursorTrack.isPinned (), dump);
 
-        final ISendBank sendBank = track.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        if (writer.isSubscribed (addresses.sendAddress))
+        {
+            final ISendBank sendBank = track.getSendBank ();
+            final ParameterAddresses [] sendAddresses = addresses.getSendAddresses (writer, sendBank.getPageSize ());
+            for (int i = 0; i < sendAddresses.length; i++)
+                flushParameterData (writer, sendAddresses[i], sendBank.getItem (i), dump);
+        }
 
         final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
+        final ClipAddresses [] clipAddresses = writer.isSubscribed (addresses.clipAddress) ? addresses.getClipAddresses (writer, slotBank.getPageSize ()) : NO_CLIP_ADDRESSES;
+        for (int i = 0; i < clipAddresses.length; i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipAddresses clipAddress = clipAddresses[i];
+            writer.sendOSC (clipAddress.name, slot.getName (), dump);
+            writer.sendOSC (clipAddress.isSelected, slot.isSelected (), dump);
+            writer.sendOSC (clipAddress.hasContent, slot.hasContent (), dump);
+            writer.sendOSC (clipAddress.isPlaying, slot.isPlaying (), dump);
+            writer.sendOSC (clipAddress.isRecording, slot.isRecording (), dump);
+            writer.sendOSC (clipAddress.isPlayingQueued, slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddress.isRecordingQueued, slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddress.isStopQueued, slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddress.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (addresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (addresses.vu, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    }
+
+
+    /**
+     * Get a track of the current track bank.
+     *
+     * @param trackNumber The number of the track as used in the OSC address (1-based)
+     * @return The track
+     */
+    private ITrack getTrack (final int trackNumber)
+    {
+        return this.model.getCurrentTrackBank ().getItem (trackNumber - 1);
     }
 
 
@@ -523,4 +596,157 @@ public class TrackModule extends AbstractModule
         else if (TAG_TOUCHED.equals (path.get (0)))
             send.touchValue (isTrigger (value));
     }
+
+
+    /**
+     * The pre-compiled address slots of a track.
+     */
+    private static class TrackAddresses
+    {
+        final String trackAddress;
+        final String sendAddress;
+        final String clipAddress;
+
+        final int exists;
+        final int type;
+        final int activated;
+        final int selected;
+        final int isGroup;
+        final int name;
+        final int volumeStr;
+        final int volume;
+        final int panStr;
+        final int pan;
+        final int mute;
+        final int solo;
+        final int recarm;
+        final int monitor;
+        final int autoMonitor;
+        final int canHoldNotes;
+        final int canHoldAudioData;
+        final int position;
+        final int pinned;
+        final int color;
+        final int crossfadeModeA;
+        final int crossfadeModeB;
+        final int crossfadeModeAB;
+        final int vu;
+
+        private ParameterAddresses [] sendAddresses = new ParameterAddresses [0];
+        private ClipAddresses []      clipAddresses = new ClipAddresses [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which manages the address slots
+         * @param trackAddress The start address for the track
+         */
+        public TrackAddresses (final IOpenSoundControlWriter writer, final String trackAddress)
+        {
+            this.trackAddress = trackAddress;
+            this.sendAddress = trackAddress + "send/";
+            this.clipAddress = trackAddress + "clip/";
+
+            this.exists = writer.getAddressSlot (trackAddress + TAG_EXISTS);
+            this.type = writer.getAddressSlot (trackAddress + "type");
+            this.activated = writer.getAddressSlot (trackAddress + "activated");
+            this.selected = writer.getAddressSlot (trackAddress + TAG_SELECTED);
+            this.isGroup = writer.getAddressSlot (trackAddress + "isGroup");
+            this.name = writer.getAddressSlot (trackAddress + TAG_NAME);
+            this.volumeStr = writer.getAddressSlot (trackAddress + "volumeStr");
+            this.volume = writer.getAddressSlot (trackAddress + TAG_VOLUME);
+            this.panStr = writer.getAddressSlot (trackAddress + "panStr");
+            this.pan = writer.getAddressSlot (trackAddress + "pan");
+            this.mute = writer.getAddressSlot (trackAddress + "mute");
+            this.solo = writer.getAddressSlot (trackAddress + "solo");
+            this.recarm = writer.getAddressSlot (trackAddress + "recarm");
+            this.monitor = writer.getAddressSlot (trackAddress + "monitor");
+            this.autoMonitor = writer.getAddressSlot (trackAddress + "autoMonitor");
+            this.canHoldNotes = writer.getAddressSlot (trackAddress + "canHoldNotes");
+            this.canHoldAudioData = writer.getAddressSlot (trackAddress + "canHoldAudioData");
+            this.position = writer.getAddressSlot (trackAddress + "position");
+            this.pinned = writer.getAddressSlot (trackAddress + "pinned");
+            this.color = writer.getAddressSlot (trackAddress + TAG_COLOR);
+            this.crossfadeModeA = writer.getAddressSlot (trackAddress + "crossfadeMode/A");
+            this.crossfadeModeB = writer.getAddressSlot (trackAddress + "crossfadeMode/B");
+            this.crossfadeModeAB = writer.getAddressSlot (trackAddress + "crossfadeMode/AB");
+            this.vu = writer.getAddressSlot (trackAddress + "vu");
+        }
+
+
+        /**
+         * Get the address slots of the sends. Compiles them if the size of the send bank changed.
+         *
+         * @param writer The writer which manages the address slots
+         * @param numSends The number of sends
+         * @return The address slots
+         */
+        public ParameterAddresses [] getSendAddresses (final IOpenSoundControlWriter writer, final int numSends)
+        {
+            if (this.sendAddresses.length != numSends)
+            {
+                this.sendAddresses = new ParameterAddresses [numSends];
+                for (int i = 0; i < numSends; i++)
+                    this.sendAddresses[i] = new ParameterAddresses (writer, this.sendAddress + (i + 1) + "/", true);
+            }
+            return this.sendAddresses;
+        }
+
+
+        /**
+         * Get the address slots of the clips. Compiles them if the size of the slot bank changed.
+         *
+         * @param writer The writer which manages the address slots
+         * @param numClips The number of clips
+         * @return The address slots
+         */
+        public ClipAddresses [] getClipAddresses (final IOpenSoundControlWriter writer, final int numClips)
+        {
+            if (this.clipAddresses.length != numClips)
+            {
+                this.clipAddresses = new ClipAddresses [numClips];
+                for (int i = 0; i < numClips; i++)
+                    this.clipAddresses[i] = new ClipAddresses (writer, this.clipAddress + (i + 1) + "/");
+            }
+            return this.clipAddresses;
+        }
+    }
+
+
+    /**
+     * The pre-compiled address slots of a clip.
+     */
+    private static class ClipAddresses
+    {
+        final int name;
+        final int isSelected;
+        final int hasContent;
+        final int isPlaying;
+        final int isRecording;
+        final int isPlayingQueued;
+        final int isRecordingQueued;
+        final int isStopQueued;
+        final int color;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which manages the address slots
+         * @param clipAddress The start address for the clip
+         */
+        public ClipAddresses (final IOpenSoundControlWriter writer, final String clipAddress)
+        {
+            this.name = writer.getAddressSlot (clipAddress + TAG_NAME);
+            this.isSelected = writer.getAddressSlot (clipAddress + "isSelected");
+            this.hasContent = writer.getAddressSlot (clipAddress + "hasContent");
+            this.isPlaying = writer.getAddressSlot (clipAddress + "isPlaying");
+            this.isRecording = writer.getAddressSlot (clipAddress + "isRecording");
+            this.isPlayingQueued = writer.getAddressSlot (clipAddress + "isPlayingQueued");
+            this.isRecordingQueued = writer.getAddressSlot (clipAddress + "isRecordingQueued");
+            this.isStopQueued = writer.getAddressSlot (clipAddress + "isStopQueued");
+            this.color = writer.getAddressSlot (clipAddress + TAG_COLOR);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A trie of pre-compiled OSC addresses. Address patterns consist of fixed segments and numeric
+ * segments (e.g. /track/{int}/volume). Resolving an incoming address walks the address string
+ * directly and parses the numeric segments on the fly, therefore no strings or collections are
+ * allocated. This is intended for commands which are received at a high rate, e.g. fader moves.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AddressTrie
+{
+    /** The placeholder for a numeric segment in an address pattern. */
+    public static final String NUMBER      = "{int}";
+
+    private static final int   MAX_NUMBERS = 4;
+    private static final int   MAX_DIGITS  = 6;
+
+    private final Node         root        = new Node (null);
+    private final int []       numbers     = new int [MAX_NUMBERS];
+
+
+    /**
+     * Register a handler for an address pattern.
+     *
+     * @param pattern The address pattern, e.g. /track/{int}/volume
+     * @param handler The handler to call for matching addresses
+     */
+    public void register (final String pattern, final IAddressHandler handler)
+    {
+        Node node = this.root;
+        int count = 0;
+        for (final String segment: pattern.split ("/"))
+        {
+            if (segment.isEmpty ())
+                continue;
+            if (NUMBER.equals (segment))
+            {
+                count++;
+                if (count > MAX_NUMBERS)
+                    throw new FrameworkException ("Only " + MAX_NUMBERS + " numeric segments are supported: " + pattern);
+                if (node.numberChild == null)
+                    node.numberChild = new Node (NUMBER);
+                node = node.numberChild;
+            }
+            else
+                node = node.getOrCreateChild (segment);
+        }
+
+        if (node.handler != null)
+            throw new FrameworkException ("Address is already registered: " + pattern);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Resolve the handler for the given address and execute it.
+     *
+     * @param address The OSC address
+     * @param value A value parameter for the command, may be null
+     * @return True if a handler was found for the address and executed
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    public boolean handle (final String address, final Object value) throws IllegalParameterException
+    {
+        final int length = address.length ();
+        Node node = this.root;
+        int count = 0;
+        int pos = 0;
+        while (pos < length)
+        {
+            if (address.charAt (pos) != '/')
+                return false;
+            final int start = pos + 1;
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+            if (end == start)
+                return false;
+
+            Node child = node.findChild (address, start, end);
+            if (child == null)
+            {
+                // Fixed segments have precedence over numeric ones, e.g. /track/selected
+                if (node.numberChild == null)
+                    return false;
+                final int number = parseNumber (address, start, end);
+                if (number < 0)
+                    return false;
+                this.numbers[count++] = number;
+                child = node.numberChild;
+            }
+
+            node = child;
+            pos = end;
+        }
+
+        if (node.handler == null)
+            return false;
+        node.handler.handle (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parse a positive integer from a segment of the address.
+     *
+     * @param address The address
+     * @param start The start of the segment (inclusive)
+     * @param end The end of the segment (exclusive)
+     * @return The number or -1 if the segment is not a number
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        if (end - start > MAX_DIGITS)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * A node in the trie, which represents one segment of an address.
+     */
+    private static class Node
+    {
+        private final String     name;
+        private final List<Node> children = new ArrayList<> ();
+        private Node             numberChild;
+        private IAddressHandler  handler;
+
+
+        /**
+         * Constructor.
+         *
+         * @param name The name of the segment
+         */
+        public Node (final String name)
+        {
+            this.name = name;
+        }
+
+
+        /**
+         * Get the child with the given name, creates it if it does not exist.
+         *
+         * @param segment The name of the segment
+         * @return The child node
+         */
+        public Node getOrCreateChild (final String segment)
+        {
+            final Node child = this.findChild (segment, 0, segment.length ());
+            if (child != null)
+                return child;
+            final Node newChild = new Node (segment);
+            this.children.add (newChild);
+            return newChild;
+        }
+
+
+        /**
+         * Find the child which matches a segment of the address.
+         *
+         * @param address The address
+         * @param start The start of the segment (inclusive)
+         * @param end The end of the segment (exclusive)
+         * @return The child or null if there is no match
+         */
+        public Node findChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.children.size (); i++)
+            {
+                final Node child = this.children.get (i);
+                if (child.name.length () == length && address.regionMatches (start, child.name, 0, length))
+                    return child;
+            }
+            return null;
+        }
+    }
+}
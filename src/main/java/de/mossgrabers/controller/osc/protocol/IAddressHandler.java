@@ -0,0 +1,28 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+
+
+/**
+ * Handler for an OSC address which was registered in the address trie.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IAddressHandler
+{
+    /**
+     * Execute the command of the address.
+     *
+     * @param numbers The values of the numeric segments of the address in the order of their
+     *            appearance. The array is re-used for all messages and is only valid during the
+     *            call, it might also contain more entries than numeric segments in the address
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    void handle (int [] numbers, Object value) throws IllegalParameterException;
+}
@@ -33,7 +33,8 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final Map<String, IModule> modules     = new HashMap<> ();
+    private final AddressTrie          addressTrie = new AddressTrie ();
 
 
     /**
@@ -64,27 +65,40 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
+        final Object value;
+        if (values != null && values.length > 1)
+            value = values;
+        else
+            value = values == null || values.length == 0 ? null : values[0];
+
         try
         {
+            // Fast path for pre-compiled addresses
+            if (this.addressTrie.handle (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
+            if ("refresh".equals (command))
+            {
+                this.writer.flush (true);
+                return;
+            }
+
+            if ("subscribe".equals (command) || "unsubscribe".equals (command))
+            {
+                this.handleSubscription ("subscribe".equals (command), value);
+                return;
+            }
+
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, oscParts, value);
         }
         catch (final IllegalParameterException ex)
         {
@@ -101,6 +115,40 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Subscribe or unsubscribe address patterns. Unsubscribe without a pattern removes all
+     * subscriptions.
+     *
+     * @param isSubscribe True to subscribe, false to unsubscribe
+     * @param value One or more address patterns
+     * @throws IllegalParameterException A pattern is not a string
+     */
+    private void handleSubscription (final boolean isSubscribe, final Object value) throws IllegalParameterException
+    {
+        if (value == null)
+        {
+            if (isSubscribe)
+                throw new IllegalParameterException ("Address pattern missing");
+            this.writer.clearSubscriptions ();
+            return;
+        }
+
+        final Object [] patterns = value instanceof final Object [] values ? values : new Object []
+        {
+            value
+        };
+        for (final Object pattern: patterns)
+        {
+            if (!(pattern instanceof final String patternText))
+                throw new IllegalParameterException ("Address pattern must be a string");
+            if (isSubscribe)
+                this.writer.subscribe (patternText);
+            else
+                this.writer.unsubscribe (patternText);
+        }
+    }
+
+
     /**
      * Parses the OSC message into seprate parts.
      *
@@ -126,5 +174,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerAddresses (this.addressTrie);
     }
 }
\ No newline at end of file
@@ -10,7 +10,6 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -53,7 +52,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     {
         super (host, configuration, null, null, input, null, 10, 10);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.input.addSysexHandler (new byte [0], this::handleSysEx);
     }
 
 
@@ -106,7 +105,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     }
 
 
-    private void handleSysEx (final String dataStr)
+    private void handleSysEx (final byte [] data)
     {
         if (this.printSysexHeader)
         {
@@ -117,11 +116,10 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
             this.host.println ("|-----------------------------------------------------------------------");
         }
 
-        final int [] data = StringUtils.fromHexStr (dataStr);
         StringBuilder sb = new StringBuilder ("| ");
         for (int i = 0; i < data.length; i++)
         {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+            sb.append (String.format ("%02X", Integer.valueOf (data[i] & 0xFF)));
 
             if (i != 0 && (i + 1) % 16 == 0)
             {
@@ -134,7 +132,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
 
         if (sb.length () > 2)
         {
-            if (data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
+            if (data.length == 6 && data[0] == (byte) 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == (byte) 0xF7)
                 sb.append (" - MMC ").append (MidiConstants.getMMCNames ()[data[4]]);
             this.host.println (sb.toString ());
         }
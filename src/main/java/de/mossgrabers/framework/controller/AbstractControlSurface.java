@@ -188,7 +188,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
             final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
-            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
+            pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getEncodedState (note), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
             final int [] translated = this.padGrid.translateToController (note);
             pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
@@ -208,7 +208,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         for (int i = 0; i < size; i++)
         {
             final int note = this.lightGuide.getStartNote () + i;
-            this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getLightInfo (note).getEncoded (), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
+            this.createLight (OutputID.get (OutputID.LIGHT_GUIDE1, i), () -> this.lightGuide.getEncodedState (note), state -> this.lightGuide.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, null), null);
         }
     }
 
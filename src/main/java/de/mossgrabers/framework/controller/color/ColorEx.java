@@ -379,11 +379,12 @@ public class ColorEx
      */
     public static ColorEx getClosestColor (final ColorEx color, final ColorEx [] palette)
     {
+        final double [] rgb = color.toDoubleRGB ();
         double minError = 5.0;
         ColorEx closest = color;
         for (int i = 1; i < palette.length; i++)
         {
-            final double error = ColorEx.calcDistance (palette[i], color);
+            final double error = ColorEx.calcDistance (palette[i].toDoubleRGB (), rgb);
             if (error < minError)
             {
                 closest = palette[i];
@@ -394,6 +395,20 @@ public class ColorEx
     }
 
 
+    /**
+     * Calculate the color from the palette which is the closest to the given color. The result
+     * is the same as for the palette array but lookups are cached by the palette.
+     *
+     * @param color The color
+     * @param palette The palette to pick one color from
+     * @return The color from the palette
+     */
+    public static ColorEx getClosestColor (final ColorEx color, final ColorPalette palette)
+    {
+        return palette.getClosestColor (color);
+    }
+
+
     /**
      * Calculate the difference between colors. See https://www.compuphase.com/cmetric.htm
      *
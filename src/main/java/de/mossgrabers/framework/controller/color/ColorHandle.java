@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+/**
+ * A pre-resolved reference to a color index registered with a color manager. Views can retrieve
+ * the handle once and read the color index on every flush without a lookup by key. The handle
+ * follows later updates of the color index.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class ColorHandle
+{
+    private final String key;
+    private int          colorIndex   = -1;
+    private boolean      isRegistered = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param key The key of the color index
+     */
+    ColorHandle (final String key)
+    {
+        this.key = key;
+    }
+
+
+    /**
+     * Get the key of the color index.
+     *
+     * @return The key
+     */
+    public String getKey ()
+    {
+        return this.key;
+    }
+
+
+    /**
+     * Get the color index.
+     *
+     * @return The color index
+     */
+    public int getColorIndex ()
+    {
+        if (!this.isRegistered)
+            throw new ColorIndexException ("Color for key " + this.key + " is not registered!");
+        return this.colorIndex;
+    }
+
+
+    /**
+     * Check if a color index is registered for the key.
+     *
+     * @return True if registered
+     */
+    public boolean isRegistered ()
+    {
+        return this.isRegistered;
+    }
+
+
+    /**
+     * Set the color index.
+     *
+     * @param colorIndex The color index
+     */
+    void setColorIndex (final int colorIndex)
+    {
+        this.colorIndex = colorIndex;
+        this.isRegistered = true;
+    }
+}
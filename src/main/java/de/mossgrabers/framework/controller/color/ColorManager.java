@@ -19,14 +19,18 @@ import java.util.Map;
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String               BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String               BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String               BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    /** The number of available color indices. */
+    public static final int                  NUM_COLORS       = 128;
+
+    protected final Map<String, ColorHandle> colorHandleByKey = new HashMap<> ();
+    protected final ColorEx []               colorByIndex     = new ColorEx [NUM_COLORS];
+    private final ColorHandle []             dawColorHandles  = new ColorHandle [DAWColor.values ().length];
 
 
     /**
@@ -37,7 +41,8 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final ColorHandle handle = this.colorHandleByKey.get (key);
+        if (handle != null && handle.isRegistered ())
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -51,7 +56,7 @@ public class ColorManager
      */
     public void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.getColorHandle (key).setColorIndex (colorIndex);
     }
 
 
@@ -75,10 +80,44 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final ColorHandle handle = this.colorHandleByKey.get (key);
+        if (handle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return handle.getColorIndex ();
+    }
+
+
+    /**
+     * Get a handle to the color index which is registered with the given key. The handle can be
+     * retrieved before the color index is registered and always reflects the latest registration
+     * of the key.
+     *
+     * @param key The key
+     * @return The color handle
+     */
+    public ColorHandle getColorHandle (final String key)
+    {
+        return this.colorHandleByKey.computeIfAbsent (key, ColorHandle::new);
+    }
+
+
+    /**
+     * Get a handle to the color index which is registered for the given DAW color. The handles of
+     * the DAW colors are stored by their ordinal, therefore this does not require a lookup by key.
+     *
+     * @param dawColor The DAW color
+     * @return The color handle
+     */
+    public ColorHandle getColorHandle (final DAWColor dawColor)
+    {
+        final int index = dawColor.ordinal ();
+        ColorHandle handle = this.dawColorHandles[index];
+        if (handle == null)
+        {
+            handle = this.getColorHandle (dawColor.name ());
+            this.dawColorHandles[index] = handle;
+        }
+        return handle;
     }
 
 
@@ -90,9 +129,9 @@ public class ColorManager
      */
     public void registerColor (final int colorIndex, final ColorEx color)
     {
-        if (colorIndex < 0 || colorIndex > 127)
+        if (colorIndex < 0 || colorIndex >= NUM_COLORS)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -107,7 +146,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < NUM_COLORS ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * A fixed palette of colors which supports looking up the palette entry closest to a given color.
+ * The results of the lookup are memorized since the same (track, clip, etc.) colors are matched
+ * over and over again when the pads are flushed. The matching uses the same metric as
+ * ColorEx.getClosestColor. Note that the first palette entry is never matched (it is used as the
+ * fallback).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class ColorPalette
+{
+    private static final int            MAX_CACHE_SIZE = 1024;
+    private static final double         MAX_ERROR      = 5.0;
+    private static final Integer        NO_MATCH       = Integer.valueOf (-1);
+
+    private final ColorEx []            colors;
+    private final double [] []          rgbs;
+    private final Map<ColorEx, Integer> closestIndices = new ConcurrentHashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param colors The colors of the palette
+     */
+    public ColorPalette (final ColorEx [] colors)
+    {
+        this.colors = colors.clone ();
+        this.rgbs = new double [colors.length] [];
+        for (int i = 0; i < colors.length; i++)
+            this.rgbs[i] = colors[i].toDoubleRGB ();
+    }
+
+
+    /**
+     * Get the number of colors in the palette.
+     *
+     * @return The number of colors
+     */
+    public int size ()
+    {
+        return this.colors.length;
+    }
+
+
+    /**
+     * Get a color of the palette.
+     *
+     * @param index The index of the color
+     * @return The color
+     */
+    public ColorEx getColor (final int index)
+    {
+        return this.colors[index];
+    }
+
+
+    /**
+     * Get the index of the palette color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The index of the closest color or -1 if no palette color is close enough
+     */
+    public int getClosestIndex (final ColorEx color)
+    {
+        Integer index = this.closestIndices.get (color);
+        if (index == null)
+        {
+            final int closest = this.calcClosestIndex (color);
+            index = closest < 0 ? NO_MATCH : Integer.valueOf (closest);
+            if (this.closestIndices.size () >= MAX_CACHE_SIZE)
+                this.closestIndices.clear ();
+            this.closestIndices.put (color, index);
+        }
+        return index.intValue ();
+    }
+
+
+    /**
+     * Get the palette color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The closest color or the given color if no palette color is close enough
+     */
+    public ColorEx getClosestColor (final ColorEx color)
+    {
+        final int index = this.getClosestIndex (color);
+        return index < 0 ? color : this.colors[index];
+    }
+
+
+    private int calcClosestIndex (final ColorEx color)
+    {
+        final double [] rgb = color.toDoubleRGB ();
+        double minError = MAX_ERROR;
+        int closest = -1;
+        for (int i = 1; i < this.rgbs.length; i++)
+        {
+            final double error = ColorEx.calcDistance (this.rgbs[i], rgb);
+            if (error < minError)
+            {
+                closest = i;
+                minError = error;
+            }
+        }
+        return closest;
+    }
+}
@@ -14,8 +14,10 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
@@ -35,8 +37,10 @@ import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +82,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final Object                   counterSync                     = new Object ();
 
     private final List<IComponent>         columns                         = new ArrayList<> (8);
+    private final BitSet                   dirtyColumns                    = new BitSet (8);
+    private final List<IBounds>            dirtyAreas                      = new ArrayList<> (8);
+    private final List<IBounds>            dirtyAreasView                  = Collections.unmodifiableList (this.dirtyAreas);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
 
@@ -157,6 +164,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         if (this.executor.isShutdown ())
             return;
 
+        this.dirtyAreas.clear ();
         try
         {
             final String notification;
@@ -167,19 +175,17 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
             final ModelInfo newInfo = new ModelInfo (notification, this.columns);
 
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
-            {
-                this.info = newInfo;
-                this.renderImage ();
-            }
+            // Only render the parts of the image which changed
+            final ModelInfo oldInfo = this.info;
+            this.info = newInfo;
+            this.renderImage (oldInfo);
         }
         finally
         {
             this.columns.clear ();
         }
 
-        this.send (this.image);
+        this.send (this.image, this.dirtyAreasView);
     }
 
 
@@ -187,8 +193,10 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
      * Send the buffered image to the graphics display.
      *
      * @param image An image
+     * @param dirtyAreas The areas of the image which were rendered since the last call, empty if
+     *            the image did not change. The bounds are aligned to full pixels.
      */
-    protected abstract void send (final IBitmap image);
+    protected abstract void send (final IBitmap image, final List<IBounds> dirtyAreas);
 
 
     /** {@inheritDoc} */
@@ -416,34 +424,76 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Render all components which differ from the previous frame and collect their areas. The
+     * whole image is rendered if the number of components or the notification changed or if a
+     * changed component is covered by a notification.
+     *
+     * @param oldInfo The information of the previously rendered frame
+     */
+    private void renderImage (final ModelInfo oldInfo)
     {
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final List<IComponent> elements = this.info.getComponents ();
+        final List<IComponent> oldElements = oldInfo.getComponents ();
+        final String notification = this.info.getNotification ();
+        final int size = elements.size ();
+        final int gridWidth = size == 0 ? width : width / size;
+
+        this.dirtyColumns.clear ();
+        boolean hasLayoutChanged = size != oldElements.size () || !Objects.equals (notification, oldInfo.getNotification ());
+        if (!hasLayoutChanged)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                if (!Objects.equals (elements.get (i), oldElements.get (i)))
+                    this.dirtyColumns.set (i);
+            }
+            if (this.dirtyColumns.isEmpty ())
+                return;
+            // The notification covers all columns
+            hasLayoutChanged = notification != null;
+        }
+
+        final boolean isFullRedraw = hasLayoutChanged;
+        if (isFullRedraw)
+        {
+            this.dirtyColumns.set (0, size);
+            this.dirtyAreas.add (new DefaultBounds (0, 0, width, height));
+        }
+        else
+        {
+            for (int i = this.dirtyColumns.nextSetBit (0); i >= 0; i = this.dirtyColumns.nextSetBit (i + 1))
+                this.dirtyAreas.add (new DefaultBounds (i * (double) gridWidth, 0, gridWidth, height));
+        }
+
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
             final double separatorSize = this.dimensions.getSeparatorSize ();
 
-            // Clear display
+            // Clear the display or the changed columns
             final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            if (isFullRedraw)
+                gc.fillRectangle (0, 0, width, height, colorBorder);
+            else
+            {
+                for (int i = this.dirtyColumns.nextSetBit (0); i >= 0; i = this.dirtyColumns.nextSetBit (i + 1))
+                    gc.fillRectangle (i * (double) gridWidth, 0, gridWidth, height, colorBorder);
+            }
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
             if (size == 0)
                 return;
-            final int gridWidth = width / size;
             final double paintWidth = gridWidth - separatorSize;
             final double offsetX = separatorSize / 2.0;
 
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
-            for (int i = 0; i < size; i++)
+            for (int i = this.dirtyColumns.nextSetBit (0); i >= 0; i = this.dirtyColumns.nextSetBit (i + 1))
             {
                 final IComponent component = elements.get (i);
                 if (component != null)
                     component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
             }
 
-            final String notification = this.info.getNotification ();
             if (notification == null)
                 return;
 
@@ -9,9 +9,15 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 
 /**
- * Abstract implementation of a display.
+ * Abstract implementation of a display. The cells are written in place into character buffers.
+ * When a row is done, its cells are assembled into the line buffer of the row and its change
+ * counter is increased if the content differs. Only lines with a new change counter are converted
+ * to text and sent on flush.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -34,11 +40,17 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected int            isNotificationActive = 0;
     protected final Object   notificationLock     = new Object ();
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
     protected String []      fullRows;
-    protected String []      cells;
+    /** The rows whose change counter might differ from the last flushed one. */
+    protected final BitSet   dirtyLines;
+
+    private final char [] [] cells;
+    private final int []     cellLengths;
+    private final char [] [] lines;
+    private final int []     lineLengths;
+    private final int []     lineVersions;
+    private final int []     flushedVersions;
+    private char []          lineBuffer           = new char [0];
 
     protected IHwTextDisplay hwDisplay;
 
@@ -62,18 +74,22 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.noOfCharacters = noOfCharacters;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        this.emptyCell = "                                                                     ".substring (0, this.charactersOfCell);
-
         final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCharacters; i++)
             sb.append (' ');
         this.emptyLine = sb.toString ();
         this.notificationMessage = this.emptyLine;
 
-        this.currentMessage = new String [this.noOfLines];
-        this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+        this.dirtyLines = new BitSet (this.noOfLines);
+
+        // Buffers are allocated on first use since some displays have a large number of rows
+        this.cells = new char [this.noOfLines * this.noOfCells] [];
+        this.cellLengths = new int [this.noOfLines * this.noOfCells];
+        this.lines = new char [this.noOfLines] [];
+        this.lineLengths = new int [this.noOfLines];
+        this.lineVersions = new int [this.noOfLines];
+        this.flushedVersions = new int [this.noOfLines];
     }
 
 
@@ -155,23 +171,101 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
+        int length = 0;
         if (this.fullRows[row] != null)
         {
-            this.message[row] = this.fullRows[row];
+            final String text = this.fullRows[row];
             this.fullRows[row] = null;
+            length = text.length ();
+            this.ensureLineBuffer (length);
+            text.getChars (0, length, this.lineBuffer, 0);
         }
         else
         {
             final int index = row * this.noOfCells;
-            this.message[row] = "";
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            {
+                if (this.cells[index + i] == null)
+                    this.clearCell (row, i);
+                length += this.cellLengths[index + i];
+            }
+
+            this.ensureLineBuffer (length);
+            int pos = 0;
+            for (int i = 0; i < this.noOfCells; i++)
+            {
+                final int cellLength = this.cellLengths[index + i];
+                System.arraycopy (this.cells[index + i], 0, this.lineBuffer, pos, cellLength);
+                pos += cellLength;
+            }
         }
 
+        this.commitLine (row, length);
         return this;
     }
 
 
+    /**
+     * Copy the assembled line buffer to the line of the row, if it has changed.
+     *
+     * @param row The row
+     * @param length The number of characters in the line buffer
+     */
+    private void commitLine (final int row, final int length)
+    {
+        char [] line = this.lines[row];
+        if (line != null && this.lineLengths[row] == length && Arrays.equals (line, 0, length, this.lineBuffer, 0, length))
+            return;
+
+        if (line == null || line.length < length)
+        {
+            line = new char [length];
+            this.lines[row] = line;
+        }
+        System.arraycopy (this.lineBuffer, 0, line, 0, length);
+        this.lineLengths[row] = length;
+
+        // 0 is reserved for lines which have never been set
+        this.lineVersions[row] = this.lineVersions[row] == Integer.MAX_VALUE ? 1 : this.lineVersions[row] + 1;
+        this.dirtyLines.set (row);
+    }
+
+
+    private void ensureLineBuffer (final int length)
+    {
+        if (this.lineBuffer.length < length)
+            this.lineBuffer = new char [length];
+    }
+
+
+    /**
+     * Write a text into a cell. The text is cut to the given text length and then padded with
+     * spaces to the length of the cell.
+     *
+     * @param row The row of the cell
+     * @param column The column of the cell
+     * @param value The text, null is handled like an empty text
+     * @param textLength The maximum number of characters to use from the text
+     * @param cellLength The number of characters of the cell
+     */
+    protected void writeCell (final int row, final int column, final String value, final int textLength, final int cellLength)
+    {
+        final int index = row * this.noOfCells + column;
+        char [] cell = this.cells[index];
+        if (cell == null || cell.length < cellLength)
+        {
+            cell = new char [cellLength];
+            this.cells[index] = cell;
+        }
+
+        final int length = value == null ? 0 : Math.min (value.length (), Math.min (textLength, cellLength));
+        if (length > 0)
+            value.getChars (0, length, cell, 0);
+        Arrays.fill (cell, length, cellLength, ' ');
+        this.cellLengths[index] = cellLength;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ITextDisplay allDone ()
@@ -186,7 +280,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        this.writeCell (row, column, null, 0, this.charactersOfCell);
         return this;
     }
 
@@ -206,7 +300,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
+            this.writeCell (row, column, value, this.charactersOfCell, this.charactersOfCell);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -223,8 +317,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.writeCell (row, cell, value, this.charactersOfCell, this.charactersOfCell);
+            this.writeCell (row, cell + 1, value.substring (this.charactersOfCell), this.charactersOfCell, this.charactersOfCell);
         }
         else
         {
@@ -315,14 +409,17 @@ public abstract class AbstractTextDisplay implements ITextDisplay
             }
         }
 
-        for (int row = 0; row < this.noOfLines; row++)
+        // Only visit the rows which have been updated since the last flush
+        for (int row = this.dirtyLines.nextSetBit (0); row >= 0; row = this.dirtyLines.nextSetBit (row + 1))
         {
+            this.dirtyLines.clear (row);
+
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            final int version = this.lineVersions[row];
+            if (version == 0 || version == this.flushedVersions[row])
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.updateLine (row, this.currentMessage[row]);
+            this.flushedVersions[row] = version;
+            this.updateLine (row, new String (this.lines[row], 0, this.lineLengths[row]));
         }
     }
 
@@ -356,8 +453,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        Arrays.fill (this.flushedVersions, -1);
+        this.dirtyLines.set (0, this.noOfLines);
     }
 
 
@@ -7,9 +7,7 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.BitSet;
 
 
 /**
@@ -19,12 +17,12 @@ import java.util.TreeMap;
  */
 public abstract class BlinkingPadGrid extends PadGridImpl
 {
-    protected static final int              BLINK_SPEED    = 600;
+    protected static final int BLINK_SPEED  = 600;
 
-    protected final Map<Integer, LightInfo> blinkingLights = new HashMap<> ();
-    protected final Map<Integer, LightInfo> padInfos       = new TreeMap<> ();
-    protected boolean                       isBlink;
-    protected long                          updateTime     = System.currentTimeMillis ();
+    /** The notes of the pads which are currently blinking. */
+    protected final BitSet     blinkingPads = new BitSet (NUM_NOTES);
+    protected boolean          isBlink;
+    protected long             updateTime   = System.currentTimeMillis ();
 
 
     /**
@@ -59,41 +57,25 @@ public abstract class BlinkingPadGrid extends PadGridImpl
      */
     public void flush ()
     {
-        synchronized (this.padInfos)
+        synchronized (this.dirtyPads)
         {
             this.updateController ();
-            this.padInfos.clear ();
+            this.dirtyPads.clear ();
         }
     }
 
 
     /**
-     * Send the changes including blinking pad changes to the controller.
+     * Send the dirty pads including blinking pad changes to the controller.
      */
     protected abstract void updateController ();
 
 
     /** {@inheritDoc} */
     @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    public void sendState (final int note)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
-    {
-        synchronized (this.padInfos)
-        {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
-        }
+        this.markDirty (note);
     }
 
 
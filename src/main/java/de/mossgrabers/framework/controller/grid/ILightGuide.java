@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
+
+
 /**
  * Interface to a light guide (LEDs above keys).
  *
@@ -51,6 +54,27 @@ public interface ILightGuide
     void light (int note, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param color A handle to a registered color of the color / brightness
+     */
+    void light (int note, ColorHandle color);
+
+
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The MIDI note of the LED
+     * @param color A handle to a registered color of the color / brightness
+     * @param blinkColor A handle to a registered color of the blinking color / brightness, might be
+     *            null
+     * @param fast Blinking is fast if true
+     */
+    void light (int note, ColorHandle color, ColorHandle blinkColor, boolean fast);
+
+
     /**
      * Resets the caching which forces a complete flush.
      */
@@ -100,11 +124,20 @@ public interface ILightGuide
      * Get the color and blink states of a LED.
      *
      * @param note The LED of the note (0-127)
-     * @return The info
+     * @return The info, a copy of the current state
      */
     LightInfo getLightInfo (int note);
 
 
+    /**
+     * Get the color and blink states of a LED encoded as one integer, see LightInfo.encode.
+     *
+     * @param note The LED of the note (0-127)
+     * @return The encoded state
+     */
+    int getEncodedState (int note);
+
+
     /**
      * Set the state to the controller.
      *
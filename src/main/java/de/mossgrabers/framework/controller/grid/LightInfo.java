@@ -51,16 +51,11 @@ public final class LightInfo
      */
     public void setColors (final int color, final int blinkColor, final boolean fast)
     {
-        if (color < 0 || color > 127)
-            throw new FrameworkException ("color must be in the range of 0..127.");
-        if (blinkColor < -1 || blinkColor > 127)
-            throw new FrameworkException ("blinkColor must be in the range of 0..127 or -1 for off.");
+        this.encoded = encode (color, blinkColor, fast);
 
         this.color = color;
         this.blinkColor = blinkColor;
         this.fast = fast;
-
-        this.encode ();
     }
 
 
@@ -153,4 +148,62 @@ public final class LightInfo
         final int codeFast = this.fast ? 1 << 16 : 0;
         this.encoded = codeFast + codeBlinkColor + this.color;
     }
+
+
+    /**
+     * Encode the color and blink states as one integer.
+     *
+     * @param color The color (0-127)
+     * @param blinkColor The blink color (0-127) or -1 for off
+     * @param fast True to blink fast
+     * @return The encoded state
+     */
+    public static int encode (final int color, final int blinkColor, final boolean fast)
+    {
+        if (color < 0 || color > 127)
+            throw new FrameworkException ("color must be in the range of 0..127.");
+        if (blinkColor < -1 || blinkColor > 127)
+            throw new FrameworkException ("blinkColor must be in the range of 0..127 or -1 for off.");
+
+        final int codeBlinkColor = blinkColor << 8;
+        final int codeFast = fast ? 1 << 16 : 0;
+        return codeFast + codeBlinkColor + color;
+    }
+
+
+    /**
+     * Get the color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The color
+     */
+    public static int decodeColor (final int encoded)
+    {
+        return encoded & 0xFF;
+    }
+
+
+    /**
+     * Get the blink color from an encoded state.
+     *
+     * @param encoded The encoded state
+     * @return The blink color or -1 if off
+     */
+    public static int decodeBlinkColor (final int encoded)
+    {
+        final int blinkColor = encoded >> 8 & 0xFF;
+        return blinkColor == 0xFF ? -1 : blinkColor;
+    }
+
+
+    /**
+     * Get the blink speed from an encoded state. Only valid if there is a blink color.
+     *
+     * @param encoded The encoded state
+     * @return True if fast
+     */
+    public static boolean decodeFast (final int encoded)
+    {
+        return (encoded >> 16 & 1) > 0;
+    }
 }
\ No newline at end of file
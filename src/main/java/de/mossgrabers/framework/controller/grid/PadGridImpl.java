@@ -4,9 +4,12 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.BitSet;
+
 
 /**
  * Implementation of a grid of pads.
@@ -15,12 +18,24 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PadGridImpl implements IPadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int   NUM_NOTES          = 128;
 
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
+    protected final ColorHandle  gridOffColor;
+
+    /**
+     * The encoded color and blink states of all pads, see LightInfo.encode. Note: Even if the grid
+     * contains less than 128 pads it is more efficient to use the 128 note values the pads
+     * understand.
+     */
+    protected final int []       padStates          = new int [NUM_NOTES];
+    /** The pads which were marked as dirty and have not been flushed yet. */
+    protected final BitSet       dirtyPads          = new BitSet (NUM_NOTES);
 
-    protected LightInfo []       padStates;
+    private final int []         controllerChannels = new int [NUM_NOTES];
+    private final int []         controllerNotes    = new int [NUM_NOTES];
+    private boolean              isTranslationValid = false;
 
     protected int                rows;
     protected int                cols;
@@ -52,17 +67,12 @@ public class PadGridImpl implements IPadGrid
     public PadGridImpl (final ColorManager colorManager, final IMidiOutput output, final int rows, final int cols, final int startNote)
     {
         this.colorManager = colorManager;
+        this.gridOffColor = colorManager.getColorHandle (GRID_OFF);
         this.output = output;
         this.rows = rows;
         this.cols = cols;
         this.startNote = startNote;
         this.endNote = this.startNote + this.rows * this.cols - 1;
-
-        // Note: Even if the grid contains less than 128 pads it is more efficient to use
-        // the 128 note values the pads understand
-        this.padStates = new LightInfo [NUM_NOTES];
-        for (int i = 0; i < NUM_NOTES; i++)
-            this.padStates[i] = new LightInfo ();
     }
 
 
@@ -131,6 +141,38 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color)
+    {
+        this.setLight (note, color.getColorIndex (), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void light (final int note, final ColorHandle color, final ColorHandle blinkColor, final boolean fast)
+    {
+        this.light (note, color.getColorIndex (), blinkColor == null ? -1 : blinkColor.getColorIndex (), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final ColorHandle color)
+    {
+        this.lightEx (x, y, color.getColorIndex (), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightEx (final int x, final int y, final ColorHandle color, final ColorHandle blinkColor, final boolean fast)
+    {
+        this.lightEx (x, y, color.getColorIndex (), blinkColor == null ? -1 : blinkColor.getColorIndex (), fast);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
@@ -141,7 +183,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note] = LightInfo.encode (color, blinkColor >= 0 ? blinkColor : this.gridOffColor.getColorIndex (), fast);
     }
 
 
@@ -149,7 +191,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void forceFlush (final int note)
     {
-        this.padStates[note].setColors (0, 0, false);
+        this.padStates[note] = 0;
     }
 
 
@@ -158,13 +200,22 @@ public class PadGridImpl implements IPadGrid
     public void forceFlush ()
     {
         for (int i = this.startNote; i <= this.endNote; i++)
-            this.padStates[i].setColors (0, 0, false);
+            this.padStates[i] = 0;
     }
 
 
     /** {@inheritDoc} */
     @Override
     public LightInfo getLightInfo (final int note)
+    {
+        final int state = this.padStates[note];
+        return new LightInfo (LightInfo.decodeColor (state), LightInfo.decodeBlinkColor (state), LightInfo.decodeFast (state));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getEncodedState (final int note)
     {
         return this.padStates[note];
     }
@@ -174,13 +225,126 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
-        final int [] translated = this.translateToController (note);
-        final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
-        final int blinkColor = state.getBlinkColor ();
-        if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+        this.sendPadState (note);
+    }
+
+
+    /**
+     * Send the state of a pad to the controller.
+     *
+     * @param note The note (0-127)
+     */
+    protected void sendPadState (final int note)
+    {
+        final int state = note < NUM_NOTES ? this.padStates[note] : 0;
+        final int channel = this.getControllerChannel (note);
+        final int controllerNote = this.getControllerNote (note);
+        this.sendNoteState (channel, controllerNote, LightInfo.decodeColor (state));
+        final int blinkColor = LightInfo.decodeBlinkColor (state);
+        if (blinkColor > 0)
+            this.sendBlinkState (channel, controllerNote, blinkColor, LightInfo.decodeFast (state));
+    }
+
+
+    /**
+     * Mark a pad as dirty instead of sending its state immediately. Grids which send several pads
+     * in one message call this from sendState and send all dirty pads with flushDirtyPads.
+     *
+     * @param note The note (0-127)
+     */
+    protected void markDirty (final int note)
+    {
+        if (note < 0 || note >= NUM_NOTES)
+            return;
+        synchronized (this.dirtyPads)
+        {
+            this.dirtyPads.set (note);
+        }
+    }
+
+
+    /**
+     * Send the states of all dirty pads with sendDirtyPads and clear the dirty flags.
+     */
+    protected void flushDirtyPads ()
+    {
+        synchronized (this.dirtyPads)
+        {
+            if (this.dirtyPads.isEmpty ())
+                return;
+            this.sendDirtyPads (this.dirtyPads);
+            this.dirtyPads.clear ();
+        }
+    }
+
+
+    /**
+     * Send the states of the given pads to the controller. Overwrite to send them in one batch.
+     * The default implementation sends each pad individually.
+     *
+     * @param pads The notes of the pads to send
+     */
+    protected void sendDirtyPads (final BitSet pads)
+    {
+        for (int note = pads.nextSetBit (0); note >= 0; note = pads.nextSetBit (note + 1))
+            this.sendPadState (note);
+    }
+
+
+    /**
+     * Get the MIDI channel of the controller for a note, see translateToController.
+     *
+     * @param note The note (0-127)
+     * @return The MIDI channel
+     */
+    protected int getControllerChannel (final int note)
+    {
+        if (note < this.startNote || note > this.endNote || note >= NUM_NOTES)
+            return this.translateToController (note)[0];
+        this.updateTranslation ();
+        return this.controllerChannels[note];
+    }
+
+
+    /**
+     * Get the note of the controller for a note, see translateToController.
+     *
+     * @param note The note (0-127)
+     * @return The note
+     */
+    protected int getControllerNote (final int note)
+    {
+        if (note < this.startNote || note > this.endNote || note >= NUM_NOTES)
+            return this.translateToController (note)[1];
+        this.updateTranslation ();
+        return this.controllerNotes[note];
+    }
+
+
+    /**
+     * Invalidate the translation tables. Must be called if the result of translateToController
+     * changes, e.g. depending on the active view.
+     */
+    protected void resetTranslation ()
+    {
+        this.isTranslationValid = false;
+    }
+
+
+    /**
+     * Fill the translation tables for all notes of the grid, if they are not up to date.
+     */
+    private void updateTranslation ()
+    {
+        if (this.isTranslationValid)
+            return;
+        for (int note = Math.max (0, this.startNote); note <= this.endNote && note < NUM_NOTES; note++)
+        {
+            final int [] translated = this.translateToController (note);
+            this.controllerChannels[note] = translated[0];
+            this.controllerNotes[note] = translated[1];
+        }
+        this.isTranslationValid = true;
     }
 
 
@@ -215,7 +379,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.gridOffColor.getColorIndex ();
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
@@ -7,7 +7,6 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.TimeoutOptimizer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +21,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 {
     private static final int               BUTTON_STATE_INTERVAL = 300;
 
-    private final TimeoutOptimizer         optimizer;
+    private final LongPressTimer           longPressTimer;
+    private LongPressTimer.Timeout         longPressTimeout;
 
     protected TriggerCommand               command;
     protected IHwLight                     light;
@@ -40,12 +40,14 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
      *
      * @param host The host
      * @param label The label of the button
+     * @param longPressTimer The timer for detecting long presses, shared by all buttons of the
+     *            surface
      */
-    protected AbstractHwButton (final IHost host, final String label)
+    protected AbstractHwButton (final IHost host, final String label, final LongPressTimer longPressTimer)
     {
         super (host, label);
 
-        this.optimizer = new TimeoutOptimizer (host, BUTTON_STATE_INTERVAL);
+        this.longPressTimer = longPressTimer;
     }
 
 
@@ -78,7 +80,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
 
-        this.host.scheduleTask (this::checkButtonState, this.optimizer.getTimeout ());
+        this.cancelLongPress ();
+        this.longPressTimeout = this.longPressTimer.schedule (this::checkButtonState, BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         if (this.command != null)
             this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
@@ -96,6 +99,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
             return;
 
         this.state = ButtonEvent.UP;
+        this.cancelLongPress ();
         if (this.command != null && !this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
@@ -217,12 +221,22 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     }
 
 
+    private void cancelLongPress ()
+    {
+        if (this.longPressTimeout == null)
+            return;
+        this.longPressTimer.cancel (this.longPressTimeout);
+        this.longPressTimeout = null;
+    }
+
+
     /**
      * If the state of the given button is still down, the state is set to long and an event gets
      * fired.
      */
     private void checkButtonState ()
     {
+        this.longPressTimeout = null;
         if (!this.isPressed ())
             return;
         this.state = ButtonEvent.LONG;
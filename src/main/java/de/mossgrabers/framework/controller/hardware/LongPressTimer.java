@@ -0,0 +1,178 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.hardware;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.TimeoutOptimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A hashed timer wheel which is shared by all buttons of a surface to detect long presses. All
+ * pending timeouts are handled by a single task which runs at a fixed tick interval and is only
+ * scheduled as long as there are pending timeouts. The tick interval is calibrated once for the
+ * whole surface.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LongPressTimer
+{
+    private static final int          TICK_INTERVAL = 20;
+    private static final int          WHEEL_SIZE    = 32;
+
+    private final IHost               host;
+    private final TimeoutOptimizer    optimizer;
+    private final long                startTime     = System.currentTimeMillis ();
+    private final List<List<Timeout>> wheel         = new ArrayList<> (WHEEL_SIZE);
+    private final List<Runnable>      expired       = new ArrayList<> ();
+
+    private long                      processedTick;
+    private int                       pendingTimeouts;
+    private boolean                   isTicking;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public LongPressTimer (final IHost host)
+    {
+        this.host = host;
+        this.optimizer = new TimeoutOptimizer (host, TICK_INTERVAL);
+
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.wheel.add (new ArrayList<> ());
+    }
+
+
+    /**
+     * Schedule a task.
+     *
+     * @param task The task to execute when the delay has passed
+     * @param delay The delay in milliseconds
+     * @return The timeout which can be used to cancel the task
+     */
+    public synchronized Timeout schedule (final Runnable task, final int delay)
+    {
+        final long currentTick = this.getCurrentTick ();
+        if (!this.isTicking)
+            this.processedTick = currentTick;
+
+        // The bucket of the current tick might already have been processed
+        final long deadline = Math.max (currentTick + (delay + TICK_INTERVAL - 1) / TICK_INTERVAL, this.processedTick + 1);
+        final Timeout timeout = new Timeout (task, deadline);
+        this.wheel.get ((int) (deadline % WHEEL_SIZE)).add (timeout);
+        this.pendingTimeouts++;
+
+        if (!this.isTicking)
+        {
+            this.isTicking = true;
+            this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+        }
+        return timeout;
+    }
+
+
+    /**
+     * Cancel a scheduled task. Does nothing if the task was already executed or cancelled.
+     *
+     * @param timeout The timeout returned when the task was scheduled
+     */
+    public synchronized void cancel (final Timeout timeout)
+    {
+        if (timeout.task == null)
+            return;
+        timeout.task = null;
+        this.pendingTimeouts--;
+    }
+
+
+    /**
+     * Executes all tasks whose deadline has passed since the last tick.
+     */
+    private void tick ()
+    {
+        synchronized (this)
+        {
+            final long currentTick = this.getCurrentTick ();
+
+            // If the tick was delayed for a whole turn every bucket needs to be checked only once
+            final long lastTick = Math.min (currentTick, this.processedTick + WHEEL_SIZE);
+            for (long tick = this.processedTick + 1; tick <= lastTick; tick++)
+                this.expire (this.wheel.get ((int) (tick % WHEEL_SIZE)), currentTick);
+            this.processedTick = currentTick;
+
+            this.isTicking = this.pendingTimeouts > 0;
+            if (this.isTicking)
+                this.host.scheduleTask (this::tick, this.optimizer.getTimeout ());
+        }
+
+        // Run the tasks outside of the lock since they might schedule new timeouts
+        for (int i = 0; i < this.expired.size (); i++)
+            this.expired.get (i).run ();
+        this.expired.clear ();
+    }
+
+
+    /**
+     * Remove all cancelled and expired timeouts from a bucket and collect the tasks of the expired
+     * ones.
+     *
+     * @param bucket The bucket of the wheel
+     * @param currentTick The current tick
+     */
+    private void expire (final List<Timeout> bucket, final long currentTick)
+    {
+        int pos = 0;
+        for (int i = 0; i < bucket.size (); i++)
+        {
+            final Timeout timeout = bucket.get (i);
+            if (timeout.task == null)
+                continue;
+            if (timeout.deadline <= currentTick)
+            {
+                this.expired.add (timeout.task);
+                timeout.task = null;
+                this.pendingTimeouts--;
+                continue;
+            }
+            // Deadline is in a later turn of the wheel
+            bucket.set (pos++, timeout);
+        }
+        bucket.subList (pos, bucket.size ()).clear ();
+    }
+
+
+    private long getCurrentTick ()
+    {
+        return (System.currentTimeMillis () - this.startTime) / TICK_INTERVAL;
+    }
+
+
+    /**
+     * A scheduled task.
+     */
+    public static class Timeout
+    {
+        private final long deadline;
+        private Runnable   task;
+
+
+        /**
+         * Constructor.
+         *
+         * @param task The task to execute
+         * @param deadline The tick at which the task is due
+         */
+        Timeout (final Runnable task, final long deadline)
+        {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorPalette;
 
 import java.util.List;
 
@@ -76,6 +77,8 @@ public enum DAWColor
 
     private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
     private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
+    private static final DAWColor []    VALUES           = DAWColor.values ();
+    private static final ColorPalette   PALETTE          = createPalette ();
 
     private String                      name;
     private ColorEx                     color;
@@ -137,8 +140,7 @@ public enum DAWColor
      */
     public static ColorEx getColorEntry (final int colorIndex)
     {
-        final DAWColor [] values = DAWColor.values ();
-        return values[colorIndex >= 0 && colorIndex < values.length ? colorIndex : 0].getColor ();
+        return VALUES[colorIndex >= 0 && colorIndex < VALUES.length ? colorIndex : 0].getColor ();
     }
 
 
@@ -176,19 +178,20 @@ public enum DAWColor
      */
     public static String getColorIndex (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
-        double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
-        {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color);
-            if (error < minError)
-            {
-                cid = values[i];
-                minError = error;
-            }
-        }
-        return cid.name ();
+        return getClosestColor (color).name ();
+    }
+
+
+    /**
+     * Get the DAW color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The DAW color or COLOR_OFF if none is close enough
+     */
+    public static DAWColor getClosestColor (final ColorEx color)
+    {
+        final int index = PALETTE.getClosestIndex (color);
+        return VALUES[index < 0 ? 0 : index];
     }
 
 
@@ -208,4 +211,13 @@ public enum DAWColor
 
         return color;
     }
+
+
+    private static ColorPalette createPalette ()
+    {
+        final ColorEx [] colors = new ColorEx [VALUES.length];
+        for (int i = 0; i < VALUES.length; i++)
+            colors[i] = VALUES[i].getColor ();
+        return new ColorPalette (colors);
+    }
 }
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.daw.constants.LaunchQuantization;
 import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.observer.IObserverManagement;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.Arrays;
 
@@ -681,4 +682,92 @@ public interface ITransport extends IObserverManagement
      * Toggle the fill mode.
      */
     void toggleFillModeActive ();
+
+
+    /**
+     * Add an observer for the play state.
+     *
+     * @param observer The observer to notify on a play change
+     */
+    void addPlayObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the arranger record state.
+     *
+     * @param observer The observer to notify on a record change
+     */
+    void addRecordObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the arranger loop state.
+     *
+     * @param observer The observer to notify on a loop change
+     */
+    void addLoopObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the metronome state.
+     *
+     * @param observer The observer to notify on a metronome change
+     */
+    void addMetronomeObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the metronome during pre-roll state.
+     *
+     * @param observer The observer to notify on a pre-roll metronome change
+     */
+    void addPrerollMetronomeObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the punch-in state.
+     *
+     * @param observer The observer to notify on a punch-in change
+     */
+    void addPunchInObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the punch-out state.
+     *
+     * @param observer The observer to notify on a punch-out change
+     */
+    void addPunchOutObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the arranger overdub state.
+     *
+     * @param observer The observer to notify on an arranger overdub change
+     */
+    void addArrangerOverdubObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the clip launcher overdub state.
+     *
+     * @param observer The observer to notify on a clip launcher overdub change
+     */
+    void addLauncherOverdubObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the arranger automation write state.
+     *
+     * @param observer The observer to notify on an arranger automation write change
+     */
+    void addArrangerAutomationWriteObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the clip launcher automation write state.
+     *
+     * @param observer The observer to notify on a clip launcher automation write change
+     */
+    void addClipLauncherAutomationWriteObserver (IValueObserver<Boolean> observer);
 }
\ No newline at end of file
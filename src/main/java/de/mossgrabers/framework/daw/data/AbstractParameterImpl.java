@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -128,6 +129,14 @@ public abstract class AbstractParameterImpl extends AbstractItemImpl implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<Integer> observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public String getDisplayedValue ()
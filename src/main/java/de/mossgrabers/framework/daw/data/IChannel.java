@@ -349,6 +349,30 @@ public interface IChannel extends IItem
     void addColorObserver (IValueObserver<ColorEx> observer);
 
 
+    /**
+     * Add an observer for the activated state.
+     *
+     * @param observer The observer to notify on an activation change
+     */
+    void addActivatedObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the mute state.
+     *
+     * @param observer The observer to notify on a mute change
+     */
+    void addMuteObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the solo state.
+     *
+     * @param observer The observer to notify on a solo change
+     */
+    void addSoloObserver (IValueObserver<Boolean> observer);
+
+
     /**
      * Add a device at the end of the channels' device chain.
      *
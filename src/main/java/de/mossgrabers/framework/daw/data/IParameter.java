@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -120,6 +121,16 @@ public interface IParameter extends IItem
     int getModulatedValue ();
 
 
+    /**
+     * Add an observer for the value. Parameters which are not backed by an observable DAW value
+     * (e.g. the play position or an empty parameter) never notify the observer, callers need to
+     * poll them instead.
+     *
+     * @param observer The observer to notify on a value change
+     */
+    void addValueObserver (IValueObserver<Integer> observer);
+
+
     /**
      * Specifies if this value should be indicated as mapped in the DAW, which is visually shown as
      * colored dots or tinting on the parameter controls.
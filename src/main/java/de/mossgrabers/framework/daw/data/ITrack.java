@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import java.util.Arrays;
 
@@ -127,6 +128,30 @@ public interface ITrack extends IChannel
     void toggleAutoMonitor ();
 
 
+    /**
+     * Add an observer for the record arm state.
+     *
+     * @param observer The observer to notify on a record arm change
+     */
+    void addRecArmObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the monitor state.
+     *
+     * @param observer The observer to notify on a monitor change
+     */
+    void addMonitorObserver (IValueObserver<Boolean> observer);
+
+
+    /**
+     * Add an observer for the auto monitor state.
+     *
+     * @param observer The observer to notify on an auto monitor change
+     */
+    void addAutoMonitorObserver (IValueObserver<Boolean> observer);
+
+
     /**
      * Returns true if the track can hold note data.
      *
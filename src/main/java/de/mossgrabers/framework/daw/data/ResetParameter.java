@@ -222,6 +222,14 @@ public class ResetParameter implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<Integer> observer)
+    {
+        this.parameter.addValueObserver (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setIndication (final boolean enable)
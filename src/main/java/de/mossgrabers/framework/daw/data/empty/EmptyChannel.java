@@ -388,6 +388,30 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addActivatedObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMuteObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSoloObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addDevice (final IDeviceMetadata metadata)
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -166,6 +167,30 @@ public class EmptyTrack extends EmptyChannel implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addRecArmObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addMonitorObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addAutoMonitorObserver (final IValueObserver<Boolean> observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void stop ()
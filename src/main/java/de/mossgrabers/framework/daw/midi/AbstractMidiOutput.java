@@ -123,6 +123,14 @@ public abstract class AbstractMidiOutput implements IMidiOutput
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public SysexBuilder createSysexBuilder ()
+    {
+        return new SysexBuilder (this);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void configureMPE (final int zone, final int numberOfChannels)
@@ -25,6 +25,13 @@ package de.mossgrabers.framework.daw.midi;
  */
 public class DeviceInquiry
 {
+    /** The header of a device inquiry response (the device ID is not included). */
+    public static final byte []  RESPONSE_HEADER          =
+    {
+        (byte) 0xF0,
+        (byte) 0x7E
+    };
+
     private static final int     LENGTH_RESULT_SHORT      = 15;
     private static final int     LENGTH_RESULT_LONG       = 17;
     private static final int     LENGTH_DEVICE_FAMILY     = 4;
@@ -93,6 +100,26 @@ public class DeviceInquiry
     }
 
 
+    /**
+     * Constructor.
+     *
+     * @param data The data of a device inquiry response
+     */
+    public DeviceInquiry (final byte [] data)
+    {
+        this (toUnsigned (data));
+    }
+
+
+    private static int [] toUnsigned (final byte [] data)
+    {
+        final int [] result = new int [data.length];
+        for (int i = 0; i < data.length; i++)
+            result[i] = data[i] & 0xFF;
+        return result;
+    }
+
+
     /**
      * Test if the given data is a valid device inquiry response.
      *
@@ -36,6 +36,18 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Register a handler for MIDI system exclusive messages coming from this input, which start
+     * with the given header. If the headers of several handlers match a message, only the handler
+     * with the longest header is called. A handler with an empty header receives all messages
+     * which are not matched by another handler.
+     *
+     * @param header The header including the leading 0xF0, e.g. the manufacturer or command ID
+     * @param callback The callback
+     */
+    void addSysexHandler (byte [] header, MidiSysExBinaryCallback callback);
+
+
     /**
      * Create a note input.
      *
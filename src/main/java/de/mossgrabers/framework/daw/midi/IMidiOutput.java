@@ -143,6 +143,15 @@ public interface IMidiOutput
     void sendSysex (String data);
 
 
+    /**
+     * Create a builder for binary system exclusive messages which are sent to this output. Create
+     * one builder per sender and keep it, since it pools its buffers.
+     *
+     * @return The builder
+     */
+    SysexBuilder createSysexBuilder ();
+
+
     /**
      * Configure one MPE zone with all 15 channels.
      *
@@ -0,0 +1,20 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Callback for receiving MIDI System exclusive messages as bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface MidiSysExBinaryCallback
+{
+    /**
+     * Handle received MIDI system exclusive data.
+     *
+     * @param data The system exclusive message including the leading 0xF0 and trailing 0xF7
+     */
+    void handleMidi (final byte [] data);
+}
@@ -0,0 +1,231 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.Arrays;
+
+
+/**
+ * Assembles binary system exclusive messages and sends them to a MIDI output. Avoids formatting
+ * messages as hex strings which need to be parsed again before sending. The working buffer is
+ * re-used for all messages and the sent arrays are pooled by their length. Therefore, a builder
+ * must only be used from one thread and the output must not keep a reference to a sent array.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int  INITIAL_SIZE      = 256;
+    private static final int  MAX_POOLED_LENGTH = 1024;
+
+    private final IMidiOutput output;
+    private final byte [] []  messagePool       = new byte [MAX_POOLED_LENGTH + 1] [];
+    private byte []           buffer            = new byte [INITIAL_SIZE];
+    private int               length            = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which to send the messages
+     */
+    public SysexBuilder (final IMidiOutput output)
+    {
+        this.output = output;
+    }
+
+
+    /**
+     * Start a new message. Discards the content of a message which was not sent.
+     *
+     * @param header The header of the message including the leading 0xF0
+     * @return The builder for chaining
+     */
+    public SysexBuilder start (final byte [] header)
+    {
+        this.length = 0;
+        return this.addBytes (header);
+    }
+
+
+    /**
+     * Append a 7-bit value.
+     *
+     * @param value The value, only the lower 7 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder add7Bit (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append several 7-bit values.
+     *
+     * @param values The values, only the lower 7 bits are used
+     * @return The builder for chaining
+     */
+    public SysexBuilder add7Bit (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append a 14-bit value as 2 bytes, first the least significant 7 bits then the most
+     * significant 7 bits.
+     *
+     * @param value The value (0-16383)
+     * @return The builder for chaining
+     */
+    public SysexBuilder add14Bit (final int value)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.length++] = (byte) (value & 0x7F);
+        this.buffer[this.length++] = (byte) (value >> 7 & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append a 14-bit value as 2 bytes, first the most significant 7 bits then the least
+     * significant 7 bits.
+     *
+     * @param value The value (0-16383)
+     * @return The builder for chaining
+     */
+    public SysexBuilder add14BitMSB (final int value)
+    {
+        this.ensureCapacity (2);
+        this.buffer[this.length++] = (byte) (value >> 7 & 0x7F);
+        this.buffer[this.length++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append the characters of a text. Characters outside of the ASCII range are masked to 7 bits,
+     * use StringUtils.fixASCII to replace them beforehand.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        final int textLength = text.length ();
+        this.ensureCapacity (textLength);
+        for (int i = 0; i < textLength; i++)
+            this.buffer[this.length++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append a color as 3 bytes with 7-bit red, green and blue values.
+     *
+     * @param color The color
+     * @return The builder for chaining
+     */
+    public SysexBuilder addRGB (final ColorEx color)
+    {
+        return this.addRGB (color.toIntRGB127 ());
+    }
+
+
+    /**
+     * Append a color as 3 bytes with 7-bit red, green and blue values.
+     *
+     * @param rgb The red, green and blue values (0-127)
+     * @return The builder for chaining
+     */
+    public SysexBuilder addRGB (final int [] rgb)
+    {
+        this.ensureCapacity (3);
+        this.buffer[this.length++] = (byte) (rgb[0] & 0x7F);
+        this.buffer[this.length++] = (byte) (rgb[1] & 0x7F);
+        this.buffer[this.length++] = (byte) (rgb[2] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Append raw bytes.
+     *
+     * @param data The bytes to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addBytes (final byte [] data)
+    {
+        this.ensureCapacity (data.length);
+        System.arraycopy (data, 0, this.buffer, this.length, data.length);
+        this.length += data.length;
+        return this;
+    }
+
+
+    /**
+     * Get the number of bytes of the message assembled so far.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Terminate the message with 0xF7 and get it. The array is taken from the pool, therefore it
+     * is only valid until the next message of the same length is built.
+     *
+     * @return The message
+     */
+    public byte [] build ()
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) 0xF7;
+
+        byte [] message;
+        if (this.length > MAX_POOLED_LENGTH)
+            message = new byte [this.length];
+        else
+        {
+            message = this.messagePool[this.length];
+            if (message == null)
+            {
+                message = new byte [this.length];
+                this.messagePool[this.length] = message;
+            }
+        }
+        System.arraycopy (this.buffer, 0, message, 0, this.length);
+        this.length = 0;
+        return message;
+    }
+
+
+    /**
+     * Terminate the message with 0xF7 and send it to the output.
+     */
+    public void send ()
+    {
+        this.output.sendSysex (this.build ());
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
@@ -0,0 +1,112 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Dispatches received system exclusive messages to the handler which is registered for the
+ * longest matching header. This allows to register handlers for a manufacturer (e.g. F0 00 21 1D)
+ * as well as for specific commands of a device (e.g. F0 00 21 1D 01 01 04). A handler with an
+ * empty header receives all messages which are not matched by any other handler.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexDispatcher
+{
+    private final List<Handler> handlers = new ArrayList<> ();
+
+
+    /**
+     * Register a handler.
+     *
+     * @param header The header with which the messages need to start, including the leading 0xF0
+     * @param callback The callback to call for matching messages
+     */
+    public void addHandler (final byte [] header, final MidiSysExBinaryCallback callback)
+    {
+        // Keep the longest headers at the front
+        int index = 0;
+        while (index < this.handlers.size () && this.handlers.get (index).header.length >= header.length)
+            index++;
+        this.handlers.add (index, new Handler (header.clone (), callback));
+    }
+
+
+    /**
+     * Are there any handlers registered?
+     *
+     * @return True if there is at least one handler
+     */
+    public boolean hasHandlers ()
+    {
+        return !this.handlers.isEmpty ();
+    }
+
+
+    /**
+     * Call the handler with the longest header which matches the message.
+     *
+     * @param data The system exclusive message
+     * @return True if a handler was found
+     */
+    public boolean dispatch (final byte [] data)
+    {
+        for (int i = 0; i < this.handlers.size (); i++)
+        {
+            final Handler handler = this.handlers.get (i);
+            if (handler.matches (data))
+            {
+                handler.callback.handleMidi (data);
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * A header and its callback.
+     */
+    private static class Handler
+    {
+        private final byte []                 header;
+        private final MidiSysExBinaryCallback callback;
+
+
+        /**
+         * Constructor.
+         *
+         * @param header The header with which the messages need to start
+         * @param callback The callback to call for matching messages
+         */
+        public Handler (final byte [] header, final MidiSysExBinaryCallback callback)
+        {
+            this.header = header;
+            this.callback = callback;
+        }
+
+
+        /**
+         * Test if the message starts with the header.
+         *
+         * @param data The message
+         * @return True if it matches
+         */
+        public boolean matches (final byte [] data)
+        {
+            if (data.length < this.header.length)
+                return false;
+            for (int i = 0; i < this.header.length; i++)
+            {
+                if (data[i] != this.header[i])
+                    return false;
+            }
+            return true;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -33,6 +34,11 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected final Scales        scales;
     protected final KeyManager    keyManager;
 
+    private final ColorHandle     scaleColorOff;
+    private final ColorHandle     scaleColorOctave;
+    private final ColorHandle     scaleColorNote;
+    private final ColorHandle     scaleColorOutOfScale;
+
     private AftertouchCommand     aftertouchCommand;
 
 
@@ -49,6 +55,11 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
         this.scales = model.getScales ();
         this.keyManager = new KeyManager (model, this.scales, surface.getPadGrid ());
+
+        this.scaleColorOff = this.colorManager.getColorHandle (Scales.SCALE_COLOR_OFF);
+        this.scaleColorOctave = this.colorManager.getColorHandle (Scales.SCALE_COLOR_OCTAVE);
+        this.scaleColorNote = this.colorManager.getColorHandle (Scales.SCALE_COLOR_NOTE);
+        this.scaleColorOutOfScale = this.colorManager.getColorHandle (Scales.SCALE_COLOR_OUT_OF_SCALE);
     }
 
 
@@ -124,16 +135,23 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
 
     /**
-     * Get the ID of the color to use for a pad with respect to the current scale settings.
+     * Get the color to use for a pad with respect to the current scale settings.
      *
      * @param pad The MIDI note of the pad
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @return The color ID
+     * @return The color
      */
-    protected String getPadColor (final int pad, final ITrack track)
+    protected ColorHandle getPadColor (final int pad, final ITrack track)
     {
-        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColor (pad));
+        final String colorID = this.keyManager.getColor (pad);
+        if (Scales.SCALE_COLOR_OCTAVE.equals (colorID))
+            return track == null ? this.scaleColorOctave : this.colorManager.getColorHandle (DAWColor.getClosestColor (track.getColor ()));
+        if (Scales.SCALE_COLOR_NOTE.equals (colorID))
+            return this.scaleColorNote;
+        if (Scales.SCALE_COLOR_OUT_OF_SCALE.equals (colorID))
+            return this.scaleColorOutOfScale;
+        return this.scaleColorOff;
     }
 
 
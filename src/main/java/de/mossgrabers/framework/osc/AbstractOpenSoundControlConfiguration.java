@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -27,12 +28,18 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (51);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
+    /** ID for the maximum bundle size option. */
+    public static final Integer   MAX_BUNDLE_SIZE           = Integer.valueOf (53);
+    /** ID for the pause between bundles option. */
+    public static final Integer   BUNDLE_PAUSE              = Integer.valueOf (54);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private int                   maxBundleSize             = IOpenSoundControlClient.DEFAULT_MAX_BUNDLE_SIZE;
+    private int                   bundlePause               = IOpenSoundControlClient.DEFAULT_BUNDLE_PAUSE;
 
 
     /**
@@ -77,6 +84,30 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the settings for sending OSC bundles.
+     *
+     * @param settingsUI The settings
+     * @param category The category to which to add the settings
+     */
+    protected void activateOSCBundleSettings (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting maxBundleSizeSetting = settingsUI.getRangeSetting ("Max. bundle size", category, 512, 65000, 1, "Bytes", IOpenSoundControlClient.DEFAULT_MAX_BUNDLE_SIZE);
+        maxBundleSizeSetting.addValueObserver (value -> {
+            this.maxBundleSize = value.intValue ();
+            this.notifyObservers (MAX_BUNDLE_SIZE);
+        });
+        final IIntegerSetting bundlePauseSetting = settingsUI.getRangeSetting ("Pause between bundles", category, 0, 100, 1, "ms", IOpenSoundControlClient.DEFAULT_BUNDLE_PAUSE);
+        bundlePauseSetting.addValueObserver (value -> {
+            this.bundlePause = value.intValue ();
+            this.notifyObservers (BUNDLE_PAUSE);
+        });
+
+        this.isSettingActive.add (MAX_BUNDLE_SIZE);
+        this.isSettingActive.add (BUNDLE_PAUSE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -99,4 +130,20 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getBundlePause ()
+    {
+        return this.bundlePause;
+    }
 }
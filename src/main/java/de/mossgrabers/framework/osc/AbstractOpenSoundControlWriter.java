@@ -10,10 +10,12 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -27,10 +29,23 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
+    private static final int                       INITIAL_SLOTS = 256;
+
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, Object>            oldValues     = new HashMap<> ();
+
+    private final List<IOpenSoundControlMessage>   messages      = new ArrayList<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final Map<String, Integer>             slotByAddress = new HashMap<> ();
+    private String []                              slotAddresses = new String [INITIAL_SLOTS];
+    private long []                                slotNumbers   = new long [INITIAL_SLOTS];
+    private Object []                              slotObjects   = new Object [INITIAL_SLOTS];
+    private boolean []                             slotIsSet     = new boolean [INITIAL_SLOTS];
+    private boolean []                             slotIsEnabled = new boolean [INITIAL_SLOTS];
+    private int                                    slotCount     = 0;
+    private long                                   lastDropped   = 0;
+
+    private final AddressSubscriptions             subscriptions = new AddressSubscriptions ();
 
 
     /**
@@ -82,6 +97,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
                 this.logMessages (this.messages);
                 this.oscClient.sendBundle (this.messages);
+                this.reportDroppedMessages ();
             }
             catch (final IOException ex)
             {
@@ -93,6 +109,19 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /**
+     * Logs the number of messages which were dropped by the client since the last report.
+     */
+    private void reportDroppedMessages ()
+    {
+        final long droppedMessages = this.oscClient.getDroppedMessages ();
+        if (droppedMessages == this.lastDropped)
+            return;
+        this.model.getHost ().error (String.format ("OSC send queue is full. Dropped %d messages (%d queued).", Long.valueOf (droppedMessages - this.lastDropped), Integer.valueOf (this.oscClient.getQueuedMessages ())));
+        this.lastDropped = droppedMessages;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
@@ -163,6 +192,160 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getAddressSlot (final String address)
+    {
+        final Integer slot = this.slotByAddress.get (address);
+        if (slot != null)
+            return slot.intValue ();
+
+        if (this.slotCount == this.slotAddresses.length)
+        {
+            final int size = 2 * this.slotCount;
+            this.slotAddresses = Arrays.copyOf (this.slotAddresses, size);
+            this.slotNumbers = Arrays.copyOf (this.slotNumbers, size);
+            this.slotObjects = Arrays.copyOf (this.slotObjects, size);
+            this.slotIsSet = Arrays.copyOf (this.slotIsSet, size);
+            this.slotIsEnabled = Arrays.copyOf (this.slotIsEnabled, size);
+        }
+
+        final int newSlot = this.slotCount++;
+        this.slotAddresses[newSlot] = address;
+        this.slotIsEnabled[newSlot] = this.subscriptions.matches (address);
+        this.slotByAddress.put (address, Integer.valueOf (newSlot));
+        return newSlot;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int slot, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.updateSlot (slot, r + (g << 8) + (b << 16), dump))
+            this.addMessage (this.slotAddresses[slot], "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final boolean value, final boolean dump)
+    {
+        this.sendOSC (slot, value ? 1 : 0, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (this.updateSlot (slot, Float.floatToIntBits (floatValue), dump))
+            this.addMessage (this.slotAddresses[slot], Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final int value, final boolean dump)
+    {
+        if (this.updateSlot (slot, value, dump))
+            this.addMessage (this.slotAddresses[slot], Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final String value, final boolean dump)
+    {
+        if (!this.slotIsEnabled[slot] || !dump && this.slotIsSet[slot] && Objects.equals (this.slotObjects[slot], value))
+            return;
+        this.slotObjects[slot] = value;
+        this.slotIsSet[slot] = true;
+        this.addMessage (this.slotAddresses[slot], StringUtils.fixASCII (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final String pattern)
+    {
+        if (this.subscriptions.add (pattern))
+            this.updateSubscriptions ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final String pattern)
+    {
+        if (this.subscriptions.remove (pattern))
+            this.updateSubscriptions ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearSubscriptions ()
+    {
+        this.subscriptions.clear ();
+        this.updateSubscriptions ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String addressPrefix)
+    {
+        return this.subscriptions.mayMatch (addressPrefix);
+    }
+
+
+    /**
+     * Updates the enabled state of all slots and clears the caches, so that all newly subscribed
+     * values are sent with the next flush.
+     */
+    private void updateSubscriptions ()
+    {
+        for (int i = 0; i < this.slotCount; i++)
+            this.slotIsEnabled[i] = this.subscriptions.matches (this.slotAddresses[i]);
+        Arrays.fill (this.slotIsSet, false);
+        this.oldValues.clear ();
+    }
+
+
+    /**
+     * Stores the new value of a slot if it differs from the cached one and the address of the slot
+     * is subscribed.
+     *
+     * @param slot The slot
+     * @param value The new value
+     * @param dump True to dump (ignore cache)
+     * @return True if the value needs to be sent
+     */
+    private boolean updateSlot (final int slot, final long value, final boolean dump)
+    {
+        if (!this.slotIsEnabled[slot] || !dump && this.slotIsSet[slot] && this.slotNumbers[slot] == value)
+            return false;
+        this.slotNumbers[slot] = value;
+        this.slotIsSet[slot] = true;
+        return true;
+    }
+
+
+    private void addMessage (final String address, final Object value)
+    {
+        synchronized (this.messages)
+        {
+            this.messages.add (this.host.createOSCMessage (address, Collections.singletonList (value)));
+        }
+    }
+
+
     /**
      * Send an OSC message with an object value. Tests if the value(s) of given message is identical
      * to that of the cache. If this is not the case or if dump is true, the message is added to the
@@ -191,6 +374,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
+        if (!this.subscriptions.matches (address))
+            return;
         if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
             return;
         this.oldValues.put (cacheAddress, testValue);
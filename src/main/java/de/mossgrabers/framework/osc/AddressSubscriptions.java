@@ -0,0 +1,153 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * The OSC address prefixes in which a client is interested. A pattern consists of segments which
+ * must match the start of an address. A '*' segment matches any single segment, e.g. /track/ * /vu
+ * matches /track/1/vu and /track/2/vu. If no pattern is registered all addresses match.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AddressSubscriptions
+{
+    private static final String   WILDCARD = "*";
+
+    private final List<String []> patterns = new CopyOnWriteArrayList<> ();
+
+
+    /**
+     * Add a pattern.
+     *
+     * @param pattern The pattern, e.g. /track/ * /vu (without the spaces)
+     * @return True if the pattern was added, false if it was already registered
+     */
+    public boolean add (final String pattern)
+    {
+        final String [] segments = split (pattern);
+        if (this.indexOf (segments) >= 0)
+            return false;
+        this.patterns.add (segments);
+        return true;
+    }
+
+
+    /**
+     * Remove a pattern.
+     *
+     * @param pattern The pattern
+     * @return True if the pattern was removed, false if it was not registered
+     */
+    public boolean remove (final String pattern)
+    {
+        final int index = this.indexOf (split (pattern));
+        if (index < 0)
+            return false;
+        this.patterns.remove (index);
+        return true;
+    }
+
+
+    /**
+     * Remove all patterns. Afterwards all addresses match.
+     */
+    public void clear ()
+    {
+        this.patterns.clear ();
+    }
+
+
+    /**
+     * Test if the address matches one of the patterns.
+     *
+     * @param address The OSC address
+     * @return True if there are no patterns or the address matches one of them
+     */
+    public boolean matches (final String address)
+    {
+        return this.test (address, false);
+    }
+
+
+    /**
+     * Test if addresses starting with the given prefix can match one of the patterns. Use this to
+     * skip whole sub-trees of the address space, e.g. all values of a track.
+     *
+     * @param addressPrefix The start of OSC addresses, e.g. /track/1/
+     * @return True if there are no patterns or addresses with the prefix might match one of them
+     */
+    public boolean mayMatch (final String addressPrefix)
+    {
+        return this.test (addressPrefix, true);
+    }
+
+
+    private boolean test (final String address, final boolean isPrefix)
+    {
+        final int size = this.patterns.size ();
+        if (size == 0)
+            return true;
+        for (int i = 0; i < size; i++)
+        {
+            if (matches (this.patterns.get (i), address, isPrefix))
+                return true;
+        }
+        return false;
+    }
+
+
+    private int indexOf (final String [] segments)
+    {
+        for (int i = 0; i < this.patterns.size (); i++)
+        {
+            if (Arrays.equals (this.patterns.get (i), segments))
+                return i;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Test if the segments of the pattern match the start of the address.
+     *
+     * @param pattern The segments of the pattern
+     * @param address The address
+     * @param isPrefix If true, the address is only the start of addresses and it matches if it
+     *            is shorter than the pattern
+     * @return True if matching
+     */
+    private static boolean matches (final String [] pattern, final String address, final boolean isPrefix)
+    {
+        final int length = address.length ();
+        int pos = 0;
+        for (final String segment: pattern)
+        {
+            if (pos < length && address.charAt (pos) == '/')
+                pos++;
+            if (pos >= length)
+                return isPrefix;
+
+            int end = address.indexOf ('/', pos);
+            if (end < 0)
+                end = length;
+            final int segmentLength = end - pos;
+            if (!WILDCARD.equals (segment) && (segment.length () != segmentLength || !address.regionMatches (pos, segment, 0, segmentLength)))
+                return false;
+            pos = end;
+        }
+        return true;
+    }
+
+
+    private static String [] split (final String pattern)
+    {
+        return Arrays.stream (pattern.split ("/")).filter (segment -> !segment.isEmpty ()).toArray (String []::new);
+    }
+}
@@ -15,6 +15,15 @@ import java.util.List;
  */
 public interface IOpenSoundControlClient
 {
+    /**
+     * The default maximum size of a bundle in bytes. This is the largest UDP payload which fits
+     * into an IPv4 packet on a standard Ethernet MTU of 1500 bytes, larger bundles get fragmented.
+     */
+    int DEFAULT_MAX_BUNDLE_SIZE = 1472;
+    /** The default pause between two bundles in milliseconds. */
+    int DEFAULT_BUNDLE_PAUSE    = 5;
+
+
     /**
      * Send a message to the server.
      *
@@ -25,10 +34,43 @@ public interface IOpenSoundControlClient
 
 
     /**
-     * Send several messages to the server as an OSC bundle.
+     * Send several messages to the server. The messages are queued and sent asynchronously packed
+     * into OSC bundles, which do not exceed the configured maximum bundle size.
      *
      * @param messages The messages to send
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Configure the sending of bundles.
+     *
+     * @param maxBundleSize The maximum size of a bundle in bytes
+     * @param bundlePause The time in milliseconds to wait between two bundles to not overload the
+     *            client
+     */
+    void setBundleOptions (int maxBundleSize, int bundlePause);
+
+
+    /**
+     * Get the number of messages which are queued but not yet sent.
+     *
+     * @return The number of messages
+     */
+    int getQueuedMessages ();
+
+
+    /**
+     * Get the number of messages which were dropped since the queue was full.
+     *
+     * @return The number of messages
+     */
+    long getDroppedMessages ();
+
+
+    /**
+     * Stop sending. Messages still in the queue are discarded.
+     */
+    void close ();
 }
@@ -33,4 +33,20 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the maximum size of an OSC bundle.
+     *
+     * @return The size in bytes
+     */
+    int getMaxBundleSize ();
+
+
+    /**
+     * Get the time to wait between sending two OSC bundles.
+     *
+     * @return The time in milliseconds
+     */
+    int getBundlePause ();
 }
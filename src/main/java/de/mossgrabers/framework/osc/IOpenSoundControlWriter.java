@@ -96,4 +96,112 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the slot of an OSC address. The slot is created on the first call for an address. The
+     * slot based send methods compare the values of a slot as primitives, therefore modules which
+     * flush a lot of values should register their addresses once and then use the slot based
+     * methods.
+     *
+     * @param address The OSC address
+     * @return The slot of the address
+     */
+    int getAddressSlot (String address);
+
+
+    /**
+     * Send an OSC message with a color value to the address of the given slot. Tests if the value
+     * is identical to that of the slot cache. If this is not the case or if dump is true, the
+     * message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getAddressSlot
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int slot, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value to the address of the given slot. Tests if the
+     * value is identical to that of the slot cache. If this is not the case or if dump is true, the
+     * message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getAddressSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value to the address of the given slot. Tests if the value
+     * is identical to that of the slot cache. If this is not the case or if dump is true, the
+     * message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getAddressSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value to the address of the given slot. Tests if the
+     * value is identical to that of the slot cache. If this is not the case or if dump is true, the
+     * message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getAddressSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value to the address of the given slot. Tests if the
+     * value is identical to that of the slot cache. If this is not the case or if dump is true, the
+     * message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the OSC address, see getAddressSlot
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, String value, boolean dump);
+
+
+    /**
+     * Subscribe to all addresses which start with the given pattern. As long as there is no
+     * subscription all addresses are sent. A '*' segment in the pattern matches any segment, e.g.
+     * /track/ * /vu (without the spaces).
+     *
+     * @param pattern The address pattern
+     */
+    void subscribe (String pattern);
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param pattern The address pattern
+     */
+    void unsubscribe (String pattern);
+
+
+    /**
+     * Remove all subscriptions, which means that all addresses are sent again.
+     */
+    void clearSubscriptions ();
+
+
+    /**
+     * Test if addresses starting with the given prefix might be subscribed. Modules can use this to
+     * skip collecting the values of whole sub-trees of the address space.
+     *
+     * @param addressPrefix The start of OSC addresses, e.g. /track/1/
+     * @return True if there are no subscriptions or addresses with the prefix might be subscribed
+     */
+    boolean isSubscribed (String addressPrefix);
 }
@@ -327,6 +327,29 @@ public class StringUtils
     }
 
 
+    /**
+     * Convert a string with hex encoded bytes into a byte array. One byte is 2 characters (upper or
+     * lower case) without any spaces.
+     *
+     * @param data The data to convert
+     * @return The parsed bytes
+     */
+    public static byte [] fromHexStrToBytes (final String data)
+    {
+        final int length = data.length ();
+        if (length % 2 != 0)
+            throw new IllegalArgumentException ("Length of hex data must be a multiple of 2!");
+
+        final byte [] result = new byte [length / 2];
+        for (int i = 0; i < result.length; i++)
+        {
+            final int pos = i * 2;
+            result[i] = (byte) (Character.digit (data.charAt (pos), 16) << 4 | Character.digit (data.charAt (pos + 1), 16));
+        }
+        return result;
+    }
+
+
     /**
      * Format a velocity percentage.
      *
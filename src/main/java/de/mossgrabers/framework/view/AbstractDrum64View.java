@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -47,6 +48,13 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     private final int          xblocks;
     private final int          yblocks;
 
+    private final ColorHandle  colorPadRecord;
+    private final ColorHandle  colorPadPlay;
+    private final ColorHandle  colorPadSelected;
+    private final ColorHandle  colorPadMuted;
+    private final ColorHandle  colorPadNoContent;
+    private final ColorHandle  colorPadOff;
+
 
     /**
      * Constructor.
@@ -83,6 +91,13 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
 
         this.drumOctave = 0;
 
+        this.colorPadRecord = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_RECORD);
+        this.colorPadPlay = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_PLAY);
+        this.colorPadSelected = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_SELECTED);
+        this.colorPadMuted = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_MUTED);
+        this.colorPadNoContent = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_NO_CONTENT);
+        this.colorPadOff = this.colorManager.getColorHandle (AbstractDrumView.COLOR_PAD_OFF);
+
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (final int index, final boolean isSelected) -> this.clearPressedKeys ());
         tb.addNoteObserver (this::updateNote);
@@ -178,32 +193,32 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     }
 
 
-    private String getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
+    private ColorHandle getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? this.colorPadRecord : this.colorPadPlay;
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return this.colorPadSelected;
 
         // Exists and active?
         final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
         final IChannel drumPad = drumPadBank.getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? this.colorPadOff : this.colorPadNoContent;
 
         // Muted or soloed?
         if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return this.colorPadMuted;
 
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected ColorHandle getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return this.colorManager.getColorHandle (DAWColor.getClosestColor (drumPad.getColor ()));
     }
 
 
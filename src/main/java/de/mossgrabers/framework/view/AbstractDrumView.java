@@ -9,6 +9,7 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.ButtonEventHandler;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -81,6 +82,14 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     protected ButtonID         buttonMute            = ButtonID.MUTE;
     protected ButtonID         buttonDelete          = ButtonID.DELETE;
 
+    protected final ColorHandle colorPadRecord;
+    protected final ColorHandle colorPadPlay;
+    protected final ColorHandle colorPadSelected;
+    protected final ColorHandle colorPadMuted;
+    protected final ColorHandle colorPadHasContent;
+    protected final ColorHandle colorPadNoContent;
+    protected final ColorHandle colorPadOff;
+
 
     /**
      * Constructor.
@@ -123,6 +132,14 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         this.sequencerSteps = numSequencerLines * this.numColumns;
         this.playColumns = 4; // This layout is currently fixed to a 4 width
 
+        this.colorPadRecord = this.colorManager.getColorHandle (COLOR_PAD_RECORD);
+        this.colorPadPlay = this.colorManager.getColorHandle (COLOR_PAD_PLAY);
+        this.colorPadSelected = this.colorManager.getColorHandle (COLOR_PAD_SELECTED);
+        this.colorPadMuted = this.colorManager.getColorHandle (COLOR_PAD_MUTED);
+        this.colorPadHasContent = this.colorManager.getColorHandle (COLOR_PAD_HAS_CONTENT);
+        this.colorPadNoContent = this.colorManager.getColorHandle (COLOR_PAD_NO_CONTENT);
+        this.colorPadOff = this.colorManager.getColorHandle (COLOR_PAD_OFF);
+
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (index, isSelected) -> this.keyManager.clearPressedKeys ());
         tb.addNoteObserver (this::updateNote);
@@ -475,64 +492,64 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
+    protected ColorHandle getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
     {
         final int offsetY = this.scales.getDrumOffset ();
 
         // Playing note?
         if (this.keyManager.isKeyPressed (offsetY + index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? this.colorPadRecord : this.colorPadPlay;
 
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return this.colorPadSelected;
 
         // Exists and active?
         final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
         final IChannel drumPad = drumPadBank.getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? this.colorPadOff : this.colorPadNoContent;
 
         // Muted or soloed?
         if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return this.colorPadMuted;
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected ColorHandle getPadContentColor (final IChannel drumPad)
     {
-        return this.useDawColors ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getClosestColor (drumPad.getColor ())) : this.colorPadHasContent;
     }
 
 
-    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<GridStep> editNotes)
+    protected ColorHandle getStepColor (final IStepInfo stepInfo, final boolean hilite, final Optional<ColorEx> rowColor, final int channel, final int step, final int note, final List<GridStep> editNotes)
     {
         switch (stepInfo.getState ())
         {
             // Note starts
             case START:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorIndex (rowColor.get ()) : COLOR_CONTENT;
+                    return this.colorStepMuted;
+                return rowColor.isPresent () && this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getClosestColor (rowColor.get ())) : this.colorContent;
 
             // Note continues
             case CONTINUE:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return rowColor.isPresent () && this.useDawColors ? DAWColor.getColorIndex (ColorEx.darker (rowColor.get ())) : COLOR_CONTENT_CONT;
+                    return this.colorStepMutedCont;
+                return rowColor.isPresent () && this.useDawColors ? this.colorManager.getColorHandle (DAWColor.getClosestColor (ColorEx.darker (rowColor.get ()))) : this.colorContentCont;
 
             // Empty
             default:
-                return hilite ? COLOR_STEP_HILITE_NO_CONTENT : COLOR_NO_CONTENT;
+                return hilite ? this.colorStepHiliteNoContent : this.colorNoContent;
         }
     }
 
@@ -836,7 +853,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             int y = col / this.numColumns;
             if (yModifier != null)
                 y = yModifier.applyAsInt (y);
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, rowColor, editMidiChannel, col, noteRow, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, rowColor, editMidiChannel, col, noteRow, editNotes) : this.colorNoContent);
         }
     }
 
@@ -880,7 +897,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.playColumns + pad % this.playColumns;
             final int y = this.sequencerLines + pad / this.playColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : this.colorNoContent);
         }
     }
 
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IModel;
@@ -308,33 +309,33 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param editNotes The currently edited notes
      * @return The color
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int channel, final int step, final int pad, final int note, final List<GridStep> editNotes)
+    protected ColorHandle getStepColor (final IStepInfo stepInfo, final boolean hilite, final int channel, final int step, final int pad, final int note, final List<GridStep> editNotes)
     {
         final StepState state = stepInfo == null ? StepState.OFF : stepInfo.getState ();
         switch (state)
         {
             case START:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return COLOR_CONTENT;
+                    return this.colorStepMuted;
+                return this.colorContent;
 
             case CONTINUE:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isEdit (channel, step, note, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo != null && stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return COLOR_CONTENT_CONT;
+                    return this.colorStepMutedCont;
+                return this.colorContentCont;
 
             case OFF:
             default:
                 if (hilite)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
+                    return this.colorStepHiliteNoContent;
                 return this.getPadColor (pad, this.useDawColors ? this.model.getCursorTrack () : null);
         }
     }
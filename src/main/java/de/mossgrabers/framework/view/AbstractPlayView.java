@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -37,6 +38,9 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     protected final int []     defaultVelocity;
     protected final boolean    useTrackColor;
 
+    private final ColorHandle  colorPlay;
+    private final ColorHandle  colorRecord;
+    private final ColorHandle  colorOff;
     private int                blockNotes   = 0;
 
 
@@ -67,6 +71,10 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
         this.useTrackColor = useTrackColor;
 
+        this.colorPlay = this.colorManager.getColorHandle (COLOR_PLAY);
+        this.colorRecord = this.colorManager.getColorHandle (COLOR_RECORD);
+        this.colorOff = this.colorManager.getColorHandle (COLOR_OFF);
+
         this.defaultVelocity = new int [128];
         for (int i = 0; i < 128; i++)
             this.defaultVelocity[i] = i;
@@ -130,17 +138,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected ColorHandle getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? this.colorRecord : this.colorPlay;
             return this.getPadColor (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.colorOff;
     }
 
 
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.DefaultStepInfo;
@@ -45,6 +46,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     protected int                         numColumns;
     protected int                         numRows;
 
+    private final ColorHandle             colorPlay;
+    private final ColorHandle             colorRecord;
+    private final ColorHandle             colorOff;
+
 
     /**
      * Constructor.
@@ -80,6 +85,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         this.numRows = numRows;
         this.numSequencerRows = numSequencerRows;
 
+        this.colorPlay = this.colorManager.getColorHandle (AbstractPlayView.COLOR_PLAY);
+        this.colorRecord = this.colorManager.getColorHandle (AbstractPlayView.COLOR_RECORD);
+        this.colorOff = this.colorManager.getColorHandle (AbstractPlayView.COLOR_OFF);
+
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (index, isSelected) -> this.keyManager.clearPressedKeys ());
         tb.addNoteObserver (this.keyManager::call);
@@ -353,7 +362,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % this.numColumns;
             final int y = col / this.numColumns;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, col, editNotes) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? this.getStepColor (stepInfo, hilite, col, editNotes) : this.colorNoContent);
         }
 
         // Paint the play part
@@ -415,9 +424,9 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param hilite True if note should be highlighted
      * @param step The step
      * @param editNotes The currently edited notes
-     * @return The color identifier
+     * @return The color
      */
-    protected String getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<GridStep> editNotes)
+    protected ColorHandle getStepColor (final IStepInfo stepInfo, final boolean hilite, final int step, final List<GridStep> editNotes)
     {
         final int channel = this.configuration.getMidiEditChannel ();
 
@@ -426,27 +435,27 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             // Note starts
             case START:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED;
-                return COLOR_CONTENT;
+                    return this.colorStepMuted;
+                return this.colorContent;
 
             // Note continues
             case CONTINUE:
                 if (hilite)
-                    return COLOR_STEP_HILITE_CONTENT;
+                    return this.colorStepHiliteContent;
                 if (isChordEdit (channel, step, editNotes))
-                    return COLOR_STEP_SELECTED;
+                    return this.colorStepSelected;
                 if (stepInfo.isMuted ())
-                    return COLOR_STEP_MUTED_CONT;
-                return COLOR_CONTENT_CONT;
+                    return this.colorStepMutedCont;
+                return this.colorContentCont;
 
             // Empty
             case OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? this.colorStepHiliteNoContent : this.colorNoContent;
         }
     }
 
@@ -458,17 +467,17 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected ColorHandle getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? this.colorRecord : this.colorPlay;
             return this.getPadColor (note, this.useDawColors ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return this.colorOff;
     }
 
 
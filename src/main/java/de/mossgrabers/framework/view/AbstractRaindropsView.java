@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -139,15 +140,15 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
             for (int y = 0; y < this.numDisplayRows; y++)
             {
-                String colorID = y == 0 ? this.getPadColor (x, cursorTrack) : AbstractSequencerView.COLOR_NO_CONTENT;
+                ColorHandle color = y == 0 ? this.getPadColor (x, cursorTrack) : this.colorNoContent;
                 if (isOn)
                 {
                     if (y == distance)
-                        colorID = AbstractSequencerView.COLOR_CONTENT;
+                        color = this.colorContent;
                     if (left <= distance && y == left || left > distance && y == sum - left)
-                        colorID = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
+                        color = this.colorStepHiliteNoContent;
                 }
-                padGrid.lightEx (x, this.numDisplayRows - 1 - y, colorID);
+                padGrid.lightEx (x, this.numDisplayRows - 1 - y, color);
             }
         }
     }
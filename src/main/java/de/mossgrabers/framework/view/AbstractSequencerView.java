@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
@@ -77,6 +78,18 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     protected final int           clipRows;
     protected final int           clipCols;
 
+    protected final ColorHandle   colorStepHiliteNoContent;
+    protected final ColorHandle   colorStepHiliteContent;
+    protected final ColorHandle   colorStepMuted;
+    protected final ColorHandle   colorStepMutedCont;
+    protected final ColorHandle   colorStepSelected;
+    protected final ColorHandle   colorNoContent;
+    protected final ColorHandle   colorContent;
+    protected final ColorHandle   colorContentCont;
+    protected final ColorHandle   colorPage;
+    protected final ColorHandle   colorActivePage;
+    protected final ColorHandle   colorSelectedPage;
+
     private boolean               isSequencerActive;
 
 
@@ -121,6 +134,18 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.numSequencerRows = numSequencerRows;
 
+        this.colorStepHiliteNoContent = this.colorManager.getColorHandle (COLOR_STEP_HILITE_NO_CONTENT);
+        this.colorStepHiliteContent = this.colorManager.getColorHandle (COLOR_STEP_HILITE_CONTENT);
+        this.colorStepMuted = this.colorManager.getColorHandle (COLOR_STEP_MUTED);
+        this.colorStepMutedCont = this.colorManager.getColorHandle (COLOR_STEP_MUTED_CONT);
+        this.colorStepSelected = this.colorManager.getColorHandle (COLOR_STEP_SELECTED);
+        this.colorNoContent = this.colorManager.getColorHandle (COLOR_NO_CONTENT);
+        this.colorContent = this.colorManager.getColorHandle (COLOR_CONTENT);
+        this.colorContentCont = this.colorManager.getColorHandle (COLOR_CONTENT_CONT);
+        this.colorPage = this.colorManager.getColorHandle (COLOR_PAGE);
+        this.colorActivePage = this.colorManager.getColorHandle (COLOR_ACTIVE_PAGE);
+        this.colorSelectedPage = this.colorManager.getColorHandle (COLOR_SELECTED_PAGE);
+
         this.getClip ();
     }
 
@@ -285,18 +310,18 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param page The page for which to get the color
      * @return The color to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected ColorHandle getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return this.colorActivePage;
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return this.colorSelectedPage;
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return this.colorNoContent;
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return this.colorPage;
     }
 
 
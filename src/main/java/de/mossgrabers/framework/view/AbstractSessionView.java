@@ -7,7 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
-import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.DAWColor;
@@ -434,25 +434,24 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     protected LightInfo getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final String colorIndex = DAWColor.getColorIndex (slot.getColor ());
-        final ColorManager cm = this.model.getColorManager ();
+        final ColorHandle clipColor = this.colorManager.getColorHandle (DAWColor.getClosestColor (slot.getColor ()));
 
         if (slot.isRecordingQueued ())
             return this.clipColorIsRecordingQueued;
 
         if (slot.isRecording ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsRecording);
+            return this.insertClipColor (clipColor, this.clipColorIsRecording);
 
         if (slot.isPlayingQueued ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsPlayingQueued);
+            return this.insertClipColor (clipColor, this.clipColorIsPlayingQueued);
 
         if (slot.isPlaying ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsPlaying);
+            return this.insertClipColor (clipColor, this.clipColorIsPlaying);
 
         if (slot.hasContent ())
         {
             final int blinkColor = this.clipColorHasContent.getBlinkColor ();
-            final int color = this.useClipColor && colorIndex != null ? cm.getColorIndex (colorIndex) : this.clipColorHasContent.getColor ();
+            final int color = this.useClipColor ? clipColor.getColorIndex () : this.clipColorHasContent.getColor ();
             return new LightInfo (color, slot.isSelected () ? blinkColor : -1, this.clipColorHasContent.isFast ());
         }
 
@@ -474,18 +473,17 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      * If blinking is supported and clip colors should be used the given light info is updated with
      * the clips' color.
      *
-     * @param colorManager The color manager
-     * @param colorIndex The index of the clip color
+     * @param clipColor The clip color
      * @param lightInfo The light info
      * @return THe updated light info
      */
-    private LightInfo insertClipColor (final ColorManager colorManager, final String colorIndex, final LightInfo lightInfo)
+    private LightInfo insertClipColor (final ColorHandle clipColor, final LightInfo lightInfo)
     {
-        if (this.useClipColor && colorIndex != null)
+        if (this.useClipColor)
         {
             final int blinkColor = lightInfo.getBlinkColor ();
             if (blinkColor > 0)
-                return new LightInfo (colorManager.getColorIndex (colorIndex), blinkColor, lightInfo.isFast ());
+                return new LightInfo (clipColor.getColorIndex (), blinkColor, lightInfo.isFast ());
         }
         return lightInfo;
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.AbstractView;
@@ -22,6 +23,9 @@ import de.mossgrabers.framework.featuregroup.AbstractView;
  */
 public class DummyView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C>
 {
+    private final ColorHandle gridOffColor;
+
+
     /**
      * Constructor.
      *
@@ -32,6 +36,8 @@ public class DummyView<S extends IControlSurface<C>, C extends Configuration> ex
     public DummyView (final String name, final S surface, final IModel model)
     {
         super (name, surface, model);
+
+        this.gridOffColor = this.colorManager.getColorHandle (IPadGrid.GRID_OFF);
     }
 
 
@@ -55,6 +61,6 @@ public class DummyView<S extends IControlSurface<C>, C extends Configuration> ex
     @Override
     public int getButtonColor (final ButtonID buttonID)
     {
-        return this.colorManager.getColorIndex (IPadGrid.GRID_OFF);
+        return this.gridOffColor.getColorIndex ();
     }
 }